@@ -0,0 +1,12 @@
+-- 게시물 좋아요 수 비정규화 컬럼 추가
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+
+ALTER TABLE post
+  ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 좋아요 데이터로 초기값 채우기
+UPDATE post p
+SET p.like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id);
+
+CREATE INDEX idx_post_like_count
+  ON post (like_count, id);
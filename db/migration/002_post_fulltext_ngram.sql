@@ -0,0 +1,6 @@
+-- 게시물 제목/내용 FULLTEXT 인덱스 (한국어 검색을 위한 ngram 파서)
+-- ngram_token_size 기본값(2) 기준: 2글자 이상 키워드부터 FULLTEXT 검색, 1글자는 LIKE 검색으로 처리
+-- 인덱스가 없으면 애플리케이션은 자동으로 기존 LIKE 검색을 사용한다.
+
+ALTER TABLE post
+  ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,49 @@
+-- 태그 사전(tag) 도입 + post_tag 를 (tag_id, post_id) 연결 테이블로 축소
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+-- 태그 이름은 Tag.normalize() 와 같은 규칙(앞뒤 공백/앞쪽 '#' 제거, 소문자, 50자)으로 정규화한다.
+--   Tag.normalize 는 strip 후 앞쪽 '#' 를 하나씩 지우며 다시 strip 하므로('# #태그' -> '태그')
+--   앞쪽의 공백/'#' 연속을 한 번에 지우고(REGEXP_REPLACE), 뒤쪽은 탭/개행을 포함한 공백을 지운다.
+
+CREATE TABLE tag (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  name VARCHAR(50) NOT NULL,
+  usage_count BIGINT NOT NULL DEFAULT 0,
+  CONSTRAINT uk_tag_name UNIQUE (name)
+);
+
+CREATE INDEX idx_tag_usage_count
+  ON tag (usage_count, id);
+
+-- 1) 기존 태그 이름을 정규화하여 사전에 등록
+--    uk_tag_name 은 콜레이션(대소문자/악센트 무시)으로 비교하므로 'café' 와 'cafe' 는 하나만 등록됨 (IGNORE)
+--    2) 의 조인도 같은 콜레이션으로 비교하므로 두 이름의 게시물 모두 등록된 태그에 연결된다.
+INSERT IGNORE INTO tag (name)
+SELECT DISTINCT LEFT(LOWER(REGEXP_REPLACE(REGEXP_REPLACE(tag_name, '^[[:space:]#]+', ''), '[[:space:]]+$', '')), 50)
+FROM post_tag
+WHERE LEFT(LOWER(REGEXP_REPLACE(REGEXP_REPLACE(tag_name, '^[[:space:]#]+', ''), '[[:space:]]+$', '')), 50) <> '';
+
+-- 2) 새 연결 테이블 채우기 (정규화 후 같은 게시물에 중복된 태그는 하나로)
+CREATE TABLE post_tag_new (
+  tag_id BIGINT NOT NULL,
+  post_id BIGINT NOT NULL,
+  PRIMARY KEY (tag_id, post_id),
+  FOREIGN KEY (tag_id) REFERENCES tag(id),
+  FOREIGN KEY (post_id) REFERENCES post(id)
+);
+
+INSERT IGNORE INTO post_tag_new (tag_id, post_id)
+SELECT t.id, pt.post_id
+FROM post_tag pt
+JOIN tag t ON t.name = LEFT(LOWER(REGEXP_REPLACE(REGEXP_REPLACE(pt.tag_name, '^[[:space:]#]+', ''), '[[:space:]]+$', '')), 50)
+WHERE pt.post_id IS NOT NULL;
+
+CREATE INDEX idx_post_tag_post
+  ON post_tag_new (post_id, tag_id);
+
+-- 3) 사용 횟수 초기값
+UPDATE tag t
+SET t.usage_count = (SELECT COUNT(*) FROM post_tag_new pt WHERE pt.tag_id = t.id);
+
+-- 4) 기존 테이블 교체
+RENAME TABLE post_tag TO post_tag_old, post_tag_new TO post_tag;
+DROP TABLE post_tag_old;
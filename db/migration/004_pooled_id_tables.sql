@@ -0,0 +1,25 @@
+-- IDENTITY -> pooled 시퀀스(@SequenceGenerator, allocationSize = 50) 전환
+-- MySQL 은 시퀀스를 지원하지 않으므로 Hibernate 는 엔티티별 {테이블}_seq 테이블(next_val 한 행)을 사용한다.
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다. (003_tag_dictionary 이후)
+--
+-- pooled 옵티마이저는 읽은 next_val 을 구간의 상한으로 보고 (next_val - 49) ~ next_val 을 사용하므로
+-- 기존 최대 id + 51 로 시작해야 기존 id 와 겹치지 않는다.
+-- 기존 id 컬럼의 AUTO_INCREMENT 는 그대로 두어도 무방 (애플리케이션이 id 를 직접 지정)
+
+CREATE TABLE post_seq (next_val BIGINT);
+INSERT INTO post_seq SELECT COALESCE(MAX(id), 0) + 51 FROM post;
+
+CREATE TABLE post_like_seq (next_val BIGINT);
+INSERT INTO post_like_seq SELECT COALESCE(MAX(id), 0) + 51 FROM post_like;
+
+CREATE TABLE bookmark_seq (next_val BIGINT);
+INSERT INTO bookmark_seq SELECT COALESCE(MAX(id), 0) + 51 FROM bookmark;
+
+CREATE TABLE comment_seq (next_val BIGINT);
+INSERT INTO comment_seq SELECT COALESCE(MAX(id), 0) + 51 FROM comment;
+
+CREATE TABLE user_account_seq (next_val BIGINT);
+INSERT INTO user_account_seq SELECT COALESCE(MAX(id), 0) + 51 FROM user_account;
+
+CREATE TABLE tag_seq (next_val BIGINT);
+INSERT INTO tag_seq SELECT COALESCE(MAX(id), 0) + 51 FROM tag;
@@ -0,0 +1,15 @@
+-- 팔로워/팔로잉 수 비정규화 컬럼 + 팔로워 목록 조회용 인덱스
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+
+ALTER TABLE user_account
+  ADD COLUMN follower_count BIGINT NOT NULL DEFAULT 0,
+  ADD COLUMN following_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 팔로우 데이터로 초기값 채우기
+UPDATE user_account u
+SET u.follower_count = (SELECT COUNT(*) FROM user_follow f WHERE f.following_id = u.id),
+    u.following_count = (SELECT COUNT(*) FROM user_follow f WHERE f.follower_id = u.id);
+
+-- PK (follower_id, following_id) 는 팔로잉 조회, 이 인덱스는 팔로워 조회/개수에 사용
+CREATE INDEX idx_user_follow_following
+  ON user_follow (following_id, follower_id);
@@ -0,0 +1,5 @@
+-- 게시물별 댓글 목록(작성 순 커서 페이징) 및 댓글 수 조회용 인덱스
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+
+CREATE INDEX idx_comment_post_created
+  ON comment (post_id, created_at, id);
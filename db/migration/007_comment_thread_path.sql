@@ -0,0 +1,24 @@
+-- 답글 스레드: 부모 댓글 + materialized path + 직접 답글 수
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+
+ALTER TABLE comment
+  ADD COLUMN parent_comment_id BIGINT NULL,
+  ADD COLUMN path VARCHAR(143) NOT NULL DEFAULT '',
+  ADD COLUMN depth INT NOT NULL DEFAULT 0,
+  ADD COLUMN reply_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 댓글은 모두 최상위 댓글: path = id 12자리 + '/'
+UPDATE comment SET path = CONCAT(LPAD(id, 12, '0'), '/');
+
+ALTER TABLE comment ALTER COLUMN path DROP DEFAULT;
+
+-- 부모 삭제 시 하위 답글도 함께 삭제 (MySQL 의 연쇄 삭제 한도 15단계 > Comment.MAX_DEPTH)
+ALTER TABLE comment
+  ADD CONSTRAINT fk_comment_parent
+  FOREIGN KEY (parent_comment_id) REFERENCES comment (id) ON DELETE CASCADE;
+
+-- (post_id, path): 하위 답글 구간 범위 스캔, (post_id, depth, path): 최상위 댓글 페이지
+CREATE INDEX idx_comment_post_path
+  ON comment (post_id, path);
+CREATE INDEX idx_comment_post_depth_path
+  ON comment (post_id, depth, path);
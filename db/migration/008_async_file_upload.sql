@@ -0,0 +1,28 @@
+-- 비동기 이미지 업로드: 게시물 이미지 상태 + S3 작업 기록(file_job)
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+
+-- 기존 게시물의 이미지는 모두 업로드 완료 상태
+ALTER TABLE post
+  ADD COLUMN image_status VARCHAR(16) NOT NULL DEFAULT 'READY';
+
+CREATE TABLE file_job (
+  id           BIGINT       NOT NULL PRIMARY KEY,
+  type         VARCHAR(16)  NOT NULL,
+  status       VARCHAR(16)  NOT NULL,
+  file_name    VARCHAR(255) NOT NULL,
+  content_type VARCHAR(100),
+  spool_path   VARCHAR(500),
+  post_id      BIGINT,
+  attempts     INT          NOT NULL,
+  last_error   VARCHAR(500),
+  created_at   DATETIME(6),
+  updated_at   DATETIME(6)
+);
+
+-- 정리 주기: 상태별 오래된 작업 조회
+CREATE INDEX idx_file_job_status_updated
+  ON file_job (status, updated_at);
+
+-- pooled 시퀀스 테이블 (004_pooled_id_tables 참고)
+CREATE TABLE file_job_seq (next_val BIGINT);
+INSERT INTO file_job_seq VALUES (51);
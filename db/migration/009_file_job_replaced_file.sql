@@ -0,0 +1,6 @@
+-- 이미지 교체 업로드: 이전 이미지 키를 업로드 작업에 보관
+-- 새 이미지가 게시물에 반영된 뒤에만 이전 이미지를 삭제하고, 업로드가 실패하면 게시물을 이전 이미지로 되돌린다.
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+
+ALTER TABLE file_job
+  ADD COLUMN replaced_file_name VARCHAR(255);
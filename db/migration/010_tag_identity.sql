@@ -0,0 +1,8 @@
+-- 태그 id: pooled 시퀀스(tag_seq) -> AUTO_INCREMENT (004_pooled_id_tables 의 tag 부분 되돌림)
+-- 새 태그는 게시물 트랜잭션 안에서 INSERT IGNORE 로 등록하므로 id 를 DB 가 부여한다.
+-- 운영 DB는 ddl-auto: validate 이므로 배포 전에 수동으로 적용한다.
+--
+-- tag.id 의 AUTO_INCREMENT 는 003_tag_dictionary 부터 그대로 남아 있고,
+-- InnoDB 는 애플리케이션이 직접 지정한 id 보다 큰 값으로 카운터를 올려 두었으므로 기존 id 와 겹치지 않는다.
+
+DROP TABLE tag_seq;
@@ -0,0 +1,92 @@
+package com.example.boardpjt.model.dto;
+
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.PostTag;
+import com.example.boardpjt.model.entity.Tag;
+import com.example.boardpjt.model.entity.UserAccount;
+import com.example.boardpjt.service.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 목록 한 페이지 분량의 엔티티 -> PostDTO.Response 변환 비용 측정
+ * from(): 엔티티 연관관계(author, postTags)에서 값을 꺼내는 방식
+ * of(): PostResponseAssembler 처럼 미리 조회한 작성자명/태그를 넘기는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostDtoMappingBenchmark {
+
+    @Param({"6", "50"})
+    private int pageSize;
+
+    private List<Post> posts;
+    private FileStorageService fileStorageService;
+
+    @Setup
+    public void setUp() {
+        // getFileUrl 만 사용하므로 S3Client 는 필요 없음
+        fileStorageService = new FileStorageService(null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(fileStorageService, "bucket", "benchmark-bucket");
+        ReflectionTestUtils.setField(fileStorageService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(fileStorageService, "cloudfrontDomain", "");
+
+        UserAccount author = new UserAccount();
+        author.setUsername("benchmark-user");
+
+        Tag seoul = new Tag("서울");
+        Tag cafe = new Tag("카페");
+        posts = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            Post post = new Post();
+            post.setId((long) i);
+            post.setTitle("제목 " + i);
+            post.setContent("내용 " + i);
+            post.setAuthor(author);
+            post.setImageUrl(i % 2 == 0 ? "image-" + i + ".jpg" : null);
+            post.setCategory("맛집");
+            post.setRating(i % 5 + 1);
+            post.getPostTags().add(new PostTag(post, seoul));
+            post.getPostTags().add(new PostTag(post, cafe));
+            posts.add(post);
+        }
+    }
+
+    @Benchmark
+    public List<PostDTO.Response> from() {
+        List<PostDTO.Response> result = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            result.add(PostDTO.Response.from(post, post.getLikeCount(), fileStorageService));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<PostDTO.Response> of() {
+        List<String> tags = List.of("서울", "카페");
+        List<PostDTO.Response> result = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            result.add(PostDTO.Response.of(post, "benchmark-user", tags, fileStorageService));
+        }
+        return result;
+    }
+}
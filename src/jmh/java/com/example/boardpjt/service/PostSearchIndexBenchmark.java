@@ -0,0 +1,85 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.event.PostChangedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 내 게시물 검색/정렬 경로(PostSearchIndex) 측정 - 게시물 1k/10k/100k
+ * 리포지토리 없이 PostChangedEvent 로 직접 색인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "서울", "부산", "제주도", "여행", "맛집", "카페", "숙소", "바다", "산책", "야경",
+            "coffee", "travel", "review", "hotel", "beach"
+    };
+    private static final String[] CATEGORIES = {"맛집", "숙소", "관광지", "카페"};
+
+    @Param({"1000", "10000", "100000"})
+    private int postCount;
+
+    private PostSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new PostSearchIndex(null, null);
+        ReflectionTestUtils.setField(index, "mode", "index");
+        // 초기 색인(build) 없이 이벤트로 채움 - 색인 중 이벤트 버퍼링을 끈 상태로 시작
+        ReflectionTestUtils.setField(index, "pending", null);
+
+        Random random = new Random(42);
+        for (long id = 1; id <= postCount; id++) {
+            String title = word(random) + " " + word(random) + " 후기";
+            String content = word(random) + " " + word(random) + " " + word(random) + " " + word(random);
+            List<String> tags = List.of(word(random), word(random));
+            index.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, id, title, content,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], "user" + random.nextInt(500),
+                    List.of(), tags));
+        }
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    @Benchmark
+    public long[] keywordLatest() {
+        return index.search("제주도 여행", "titleContent", null, null, false);
+    }
+
+    @Benchmark
+    public long[] keywordRelevance() {
+        return index.search("제주도 여행", "titleContent", null, null, true);
+    }
+
+    @Benchmark
+    public long[] keywordWithCategoryAndTag() {
+        return index.search("맛집", "titleContent", "맛집", "서울", true);
+    }
+
+    @Benchmark
+    public long[] author() {
+        return index.search("user12", "author", null, null, false);
+    }
+}
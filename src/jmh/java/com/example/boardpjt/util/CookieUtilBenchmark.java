@@ -0,0 +1,57 @@
+package com.example.boardpjt.util;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CookieUtil.findCookie 비용 측정 (요청당 access_token, refresh_token 조회)
+ * cookieCount: 요청에 포함된 쿠키 수 (분석 도구 쿠키 등이 섞인 경우를 가정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CookieUtilBenchmark {
+
+    @Param({"2", "10", "30"})
+    private int cookieCount;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest();
+        Cookie[] cookies = new Cookie[cookieCount];
+        for (int i = 0; i < cookieCount - 1; i++) {
+            cookies[i] = new Cookie("cookie_" + i, "value_" + i);
+        }
+        // 찾는 쿠키는 마지막에 위치 (최악의 경우)
+        cookies[cookieCount - 1] = new Cookie("access_token", "token");
+        request.setCookies(cookies);
+    }
+
+    @Benchmark
+    public String findCookie() {
+        return CookieUtil.findCookie(request, "access_token");
+    }
+
+    @Benchmark
+    public String findMissingCookie() {
+        return CookieUtil.findCookie(request, "refresh_token");
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.boardpjt.web;
+
+import com.example.boardpjt.BoardpjtApplication;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.PostTag;
+import com.example.boardpjt.model.entity.Tag;
+import com.example.boardpjt.model.entity.UserAccount;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.TagRepository;
+import com.example.boardpjt.model.repository.UserAccountRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * /posts (Thymeleaf 목록), /api/posts (JSON 목록) 처리량 측정
+ * 내장 H2 (application-bench.yml) 에 합성 데이터를 넣고 보안 필터 체인을 포함한 MockMvc 로 호출한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PostEndpointBenchmark {
+
+    private static final String[] WORDS = {"서울", "부산", "제주도", "여행", "맛집", "카페", "숙소", "바다"};
+    private static final String[] CATEGORIES = {"맛집", "숙소", "관광지", "카페"};
+
+    @Param({"1000", "10000"})
+    private int postCount;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 명령행 인자는 application.yml 의 spring.profiles.active 보다 우선한다
+        context = new SpringApplicationBuilder(BoardpjtApplication.class)
+                .run("--spring.profiles.active=bench");
+        seed(context.getBean(UserAccountRepository.class), context.getBean(PostRepository.class),
+                context.getBean(TagRepository.class));
+
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    private void seed(UserAccountRepository userAccountRepository, PostRepository postRepository,
+                      TagRepository tagRepository) {
+        List<UserAccount> authors = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            UserAccount user = new UserAccount();
+            user.setUsername("bench" + i);
+            user.setPassword("{noop}bench");
+            user.setRole("ROLE_USER");
+            authors.add(userAccountRepository.save(user));
+        }
+
+        List<Tag> tags = new ArrayList<>();
+        for (String word : WORDS) {
+            tags.add(tagRepository.save(new Tag(word)));
+        }
+
+        Random random = new Random(42);
+        List<Post> batch = new ArrayList<>();
+        for (int i = 0; i < postCount; i++) {
+            Post post = new Post();
+            post.setAuthor(authors.get(random.nextInt(authors.size())));
+            post.setTitle(WORDS[random.nextInt(WORDS.length)] + " 후기 " + i);
+            post.setContent(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+            post.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            post.setRating(random.nextInt(5) + 1);
+            post.getPostTags().add(new PostTag(post, tags.get(random.nextInt(tags.size()))));
+            batch.add(post);
+            if (batch.size() == 500) {
+                postRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        postRepository.saveAll(batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult postListPage() throws Exception {
+        return mockMvc.perform(get("/posts")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult postListPageWithKeyword() throws Exception {
+        return mockMvc.perform(get("/posts").param("keyword", "제주도").param("sort", "popular")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult apiPosts() throws Exception {
+        return mockMvc.perform(get("/api/posts")).andReturn();
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.boardpjt.config;
 
 import com.example.boardpjt.service.FileStorageService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
 /**
@@ -23,4 +29,17 @@ public class GlobalControllerAdvice {
     public FileStorageService fileStorageService() {
         return fileStorageService;
     }
+
+    /**
+     * 파일 스트리밍 실행기(WebMvcConfig)의 대기열이 가득 참 -> 잠시 후 다시 요청하도록 503
+     * 스트리밍 응답용으로 설정된 헤더(Content-Length, Content-Range 등)는 지우고 응답
+     * (본문이 열어 둔 S3 스트림/캐시 파일은 실행되지 못한 채 요청이 끝날 때 FileController.Release 가 반납)
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Void> handleTaskRejected(HttpServletResponse response) {
+        response.reset();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.boardpjt.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수를 Hibernate(HQL/Criteria)에 등록하는 클래스
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 에 등록되어 자동으로 로드됨
+ *
+ * match_against(title, content, :keyword)
+ *   -> MATCH(title, content) AGAINST(:keyword IN BOOLEAN MODE)
+ *
+ * - 반환값은 관련도 점수(double)로, WHERE 조건(> 0)과 ORDER BY(관련도순) 양쪽에 사용
+ * - post(title, content) 에 ngram 파서 FULLTEXT 인덱스가 있어야 함 (db/migration/002)
+ * - 인덱스 존재 여부는 FullTextSearchSupport 가 확인하며, 없으면 이 함수를 사용하지 않음
+ */
+public class MySqlFullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2) against(?3 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.boardpjt.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청마다 실행된 SQL 개수를 세는 Hibernate StatementInspector
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록되며,
+ * QueryCountFilter 가 요청 시작 시 start(), 종료 시 stop() 을 호출한다.
+ *
+ * Hibernate 가 직접 생성하는 클래스이므로 카운터는 static ThreadLocal 로 관리한다.
+ * (요청 처리 스레드 밖에서 실행된 쿼리는 세지 않음)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 카운트를 종료하고 지금까지 실행된 쿼리 수를 반환
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+}
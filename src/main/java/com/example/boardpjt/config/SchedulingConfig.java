@@ -0,0 +1,12 @@
+package com.example.boardpjt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (인기 태그 재계산 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
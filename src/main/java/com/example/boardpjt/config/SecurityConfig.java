@@ -2,12 +2,15 @@ package com.example.boardpjt.config;
 
 import com.example.boardpjt.filter.JwtFilter;
 import com.example.boardpjt.filter.RefreshJwtFilter;
+import com.example.boardpjt.filter.RequestCorrelationFilter;
 import com.example.boardpjt.handler.OAuth2LoginSuccessHandler;
 import com.example.boardpjt.model.repository.RefreshTokenRepository;
+import com.example.boardpjt.service.AuthPrincipalService;
 import com.example.boardpjt.service.CustomOAuth2UserService;
-import com.example.boardpjt.service.CustomUserDetailsService;
 import com.example.boardpjt.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -28,10 +31,18 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService userDetailsService;
+    private final AuthPrincipalService authPrincipalService;
     private final RefreshTokenRepository refreshTokenRepository;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${board.auth.trace.sample-rate:1.0}")
+    private double authTraceSampleRate;
+
+    // actuator 전용 포트 (내부망) - 설정하지 않으면 -1 이라 아래 포트 기준 허용이 적용되지 않음
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -43,6 +54,10 @@ public class SecurityConfig {
 
         http.authorizeHttpRequests(auth -> auth
                         // 🔥 [수정] /files/** 경로 추가 - 이미지 파일 접근 허용
+                        // actuator(health, prometheus)는 관리 포트에서만 제공 -> 그 포트로 들어온 요청만 허용
+                        // 서비스 포트에서는 헬스 체크용 /livez, /readyz 만 공개
+                        .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
+                        .requestMatchers("/livez", "/readyz").permitAll()
                         .requestMatchers("/", "/about", "/auth/**", "/login", "/posts", "/files/**", "/css/**", "/js/**", "/images/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/posts", "/api/posts/{postId}", "/api/posts/search").permitAll()
                         .requestMatchers("/posts/{id:[0-9]+}").authenticated()
@@ -57,10 +72,14 @@ public class SecurityConfig {
                 );
 
         http
-                .addFilterBefore(new JwtFilter(jwtUtil, userDetailsService),
+                .addFilterBefore(new JwtFilter(jwtUtil, authPrincipalService),
                         UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new RefreshJwtFilter(jwtUtil, userDetailsService, refreshTokenRepository),
+                .addFilterBefore(new RefreshJwtFilter(jwtUtil, authPrincipalService, refreshTokenRepository,
+                                meterRegistry.timer("board.redis.refresh.lookup")),
                         JwtFilter.class)
+                // 요청 상관관계 ID(MDC) + 인증 추적 로그 샘플링 - 인증 필터보다 먼저 실행
+                .addFilterBefore(new RequestCorrelationFilter(authTraceSampleRate),
+                        RefreshJwtFilter.class)
                 .oauth2Login(oauth2 -> oauth2
                         .userInfoEndpoint(userInfo -> userInfo
                                 .userService(customOAuth2UserService)
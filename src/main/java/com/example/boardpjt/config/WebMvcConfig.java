@@ -0,0 +1,45 @@
+package com.example.boardpjt.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 응답(StreamingResponseBody - /files 스트리밍) 전용 실행기
+ *
+ * 기본 applicationTaskExecutor(코어 8개 + 무제한 대기열)를 쓰면 느린 다운로드가 스레드를 모두 잡고
+ * 나머지는 request-timeout 까지 대기열에 쌓인다. 크기를 정한 풀과 제한된 대기열을 두고,
+ * 가득 차면 TaskRejectedException -> 503 (GlobalControllerAdvice) 으로 바로 거절한다.
+ *
+ * @Async/@Scheduled 가 쓰는 applicationTaskExecutor 를 대체하지 않도록 빈으로 등록하지 않는다.
+ */
+@Slf4j
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer, DisposableBean {
+
+    private final ThreadPoolTaskExecutor streamingExecutor = new ThreadPoolTaskExecutor();
+
+    public WebMvcConfig(@Value("${board.file.streaming.threads:32}") int threads,
+                        @Value("${board.file.streaming.queue-capacity:200}") int queueCapacity) {
+        streamingExecutor.setCorePoolSize(threads);
+        streamingExecutor.setMaxPoolSize(threads);
+        streamingExecutor.setQueueCapacity(queueCapacity);
+        streamingExecutor.setThreadNamePrefix("file-stream-");
+        streamingExecutor.initialize();
+        log.info("파일 스트리밍 실행기: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+    }
+
+    @Override
+    public void destroy() {
+        streamingExecutor.shutdown();
+    }
+}
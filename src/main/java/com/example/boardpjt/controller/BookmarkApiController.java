@@ -1,10 +1,9 @@
 package com.example.boardpjt.controller;
 
 import com.example.boardpjt.model.dto.PostDTO;
-import com.example.boardpjt.model.entity.Bookmark;
+import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.service.BookmarkService;
-import com.example.boardpjt.service.FileStorageService;
-import com.example.boardpjt.service.PostService;
+import com.example.boardpjt.service.PostResponseAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -13,7 +12,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,15 +19,11 @@ import java.util.stream.Collectors;
 public class BookmarkApiController {
 
     private final BookmarkService bookmarkService;
-    private final PostService postService;
-    private final FileStorageService fileStorageService;
+    private final PostResponseAssembler postResponseAssembler;
 
     @GetMapping
     public ResponseEntity<List<PostDTO.Response>> getMyBookmarks(Authentication authentication) {
-        List<Bookmark> bookmarks = bookmarkService.findMyBookmarks(authentication.getName());
-        List<PostDTO.Response> response = bookmarks.stream()
-                .map(bookmark -> PostDTO.Response.from(bookmark.getPost(), postService.getLikeCount(bookmark.getPost()), fileStorageService))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        List<Post> posts = bookmarkService.findMyBookmarkedPosts(authentication.getName());
+        return ResponseEntity.ok(postResponseAssembler.toResponses(posts));
     }
 }
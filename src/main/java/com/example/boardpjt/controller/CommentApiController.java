@@ -1,21 +1,26 @@
 package com.example.boardpjt.controller;
 
+import com.example.boardpjt.model.dto.CommentCursor;
 import com.example.boardpjt.model.dto.CommentDTO;
 import com.example.boardpjt.model.entity.Comment;
 import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.service.CommentService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/comments")
 public class CommentApiController {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_PREVIEW_REPLIES = 10;
+
     private final CommentService commentService;
 
     @PostMapping("/{postId}")
@@ -23,7 +28,7 @@ public class CommentApiController {
                                  // JSON Body -> 변환
                                  @RequestBody CommentDTO.Request dto,
                                  Authentication authentication) {
-        System.out.println("dto = " + dto);
+        log.debug("댓글 작성 요청: postId={}, username={}", postId, dto.username());
         try {
             if (!postId.equals(dto.postId())) {
                 throw new IllegalArgumentException("postId 불일치");
@@ -35,38 +40,79 @@ public class CommentApiController {
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(commentService.addComment(dto));
         } catch (IllegalArgumentException ex) {
-            System.err.println(ex.getMessage());
+            log.warn("댓글 작성 실패: {}", ex.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (SecurityException ex) {
-            System.err.println(ex.getMessage());
+            log.warn("댓글 작성 거부: {}", ex.getMessage());
             // 401 : 인증 - 정보 없음? -> 아예 jwt가 없거나 비로그인.
 //            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             // 403 : 인가 - 권한 없음 (level 문제)
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         } catch (Exception ex) {
-            System.err.println(ex.getMessage());
+            log.error("댓글 작성 오류", ex);
             return ResponseEntity.status(
                     HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // GET /api/comments/{postId}?after={nextCursor}&limit=
     @GetMapping("/{postId}")
 //    public ResponseEntity<List<Comment>> list(@PathVariable Long postId) {
-    public ResponseEntity<List<CommentDTO.Response>> list(
-            @PathVariable Long postId) {
+    public ResponseEntity<CommentDTO.PageResponse> list(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
         // 그대로 내보내면 serializer 에러
         // -> Comment -> UserAccount, Post
-        // CommentDTO.Response
-        return ResponseEntity.ok(
-                commentService.findByPostId(postId)
-                .stream().map(c -> new CommentDTO.Response(
-                        c.getId(),
-                        c.getPost().getId(),
-                        c.getContent(),
-                        c.getAuthor().getUsername(),
-                        c.getCreatedAt().toString()
-                        )).toList());
+        // CommentDTO.View 프로젝션으로 작성자명까지 한 번에 조회 -> CommentDTO.Response
+        try {
+            CommentCursor cursor = (after == null || after.isEmpty()) ? null : CommentCursor.decode(after);
+            int boundedLimit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+            return ResponseEntity.ok(commentService.findPage(postId, cursor, boundedLimit));
+        } catch (IllegalArgumentException ex) {
+            log.warn("댓글 목록 요청 오류: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // GET /api/comments/{postId}/threads?after={nextCursor}&limit=&replies=
+    // 최상위 댓글 + 각 댓글의 답글 미리보기 (스레드 순서)
+    @GetMapping("/{postId}/threads")
+    public ResponseEntity<CommentDTO.ThreadPage> threads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "3") int replies) {
+        try {
+            int boundedLimit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+            int boundedReplies = Math.min(Math.max(replies, 0), MAX_PREVIEW_REPLIES);
+            return ResponseEntity.ok(commentService.findThreads(postId, after, boundedLimit, boundedReplies));
+        } catch (IllegalArgumentException ex) {
+            log.warn("댓글 스레드 요청 오류: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // GET /api/comments/{commentId}/replies?after={nextCursor}&limit=
+    // 한 댓글의 하위 답글 전체 (스레드 순서)
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentDTO.ThreadPage> replies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            int boundedLimit = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+            return ResponseEntity.ok(commentService.findReplies(commentId, after, boundedLimit));
+        } catch (IllegalArgumentException ex) {
+            log.warn("답글 목록 요청 오류: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    // GET /api/comments/{postId}/count
+    @GetMapping("/{postId}/count")
+    public long count(@PathVariable Long postId) {
+        return commentService.countByPostId(postId);
     }
 
     @DeleteMapping("{id}") // commentId
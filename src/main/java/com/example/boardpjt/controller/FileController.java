@@ -1,25 +1,55 @@
 package com.example.boardpjt.controller;
 
+import com.example.boardpjt.service.FileDiskCache;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
 @Controller
 @RequiredArgsConstructor
 public class FileController {
 
     private final S3Client s3Client;
+    private final FileDiskCache fileDiskCache;
 
     @Value("${spring.cloud.aws.region.static}")
     private String region;
@@ -27,41 +57,315 @@ public class FileController {
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
 
+    // 파일명이 UUID 로 고유하므로 내용이 바뀌지 않음 -> 브라우저/CDN 에 오래 캐시
+    @Value("${board.file.cache-max-age:365d}")
+    private Duration cacheMaxAge;
+
+    // S3 응답 -> 클라이언트 복사에 쓰는 고정 버퍼 크기
+    @Value("${board.file.buffer-size:64KB}")
+    private DataSize bufferSize;
+
     /**
-     * 파일 이름을 받아 Supabase Storage에서 파일 내용을 직접 스트리밍합니다.
+     * 파일 이름을 받아 S3 에서 파일 내용을 직접 스트리밍합니다.
+     * Range / If-None-Match / If-Modified-Since 헤더는 그대로 S3 에 전달하여 206 / 304 응답을 돌려주고,
+     * 본문은 StreamingResponseBody 로 비동기 전송하여 큰 이미지가 요청 스레드를 붙잡지 않게 합니다.
+     * 디스크 캐시(FileDiskCache)가 켜져 있으면 S3 대신 로컬 캐시 파일에서 같은 처리를 합니다.
+     * 본문이 실행되지 못하고 요청이 끝나면(실행기 거절, 타임아웃, 클라이언트 끊김) 열어 둔 S3 스트림/캐시 파일은 Release 가 반납합니다.
+     *
      * @param filename 조회할 파일의 이름
      * @return 파일 데이터 스트림을 포함하는 ResponseEntity
      */
     @GetMapping("/files/{filename}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable String filename) {
-        // GetObjectRequest를 사용하여 S3에서 객체를 가져옵니다.
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+    public ResponseEntity<StreamingResponseBody> downloadFile(
+            @PathVariable String filename,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince,
+            HttpServletRequest servletRequest) {
+        if (fileDiskCache.isEnabled()) {
+            return downloadCached(filename, range, ifNoneMatch, ifModifiedSince, servletRequest);
+        }
+
+        GetObjectRequest.Builder request = GetObjectRequest.builder()
                 .bucket(bucket)
                 .key(filename)
-                .build();
+                .range(range)
+                .ifNoneMatch(ifNoneMatch);
+        // If-None-Match 가 있으면 If-Modified-Since 는 무시 (RFC 9110 13.1.3)
+        if (ifNoneMatch == null && ifModifiedSince != null) {
+            request.ifModifiedSince(parseHttpDate(ifModifiedSince));
+        }
+
+        ResponseInputStream<GetObjectResponse> s3Object;
+        try {
+            s3Object = s3Client.getObject(request.build());
+        } catch (NoSuchKeyException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (S3Exception e) {
+            return switch (e.statusCode()) {
+                // 조건부 요청 - 변경 없음. 검증자/캐시 헤더만 다시 보냄
+                case 304 -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(cacheControl())
+                        .headers(validators(e))
+                        .build();
+                case 416 -> ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).build();
+                case 404 -> ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+                default -> {
+                    log.warn("S3 파일 조회 실패: {} (status={})", filename, e.statusCode(), e);
+                    yield ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+                }
+            };
+        }
 
+        GetObjectResponse s3ObjectResponse = s3Object.response();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(s3ObjectResponse.contentType() == null
+                ? MediaType.APPLICATION_OCTET_STREAM
+                : MediaType.parseMediaType(s3ObjectResponse.contentType()));
+        headers.setContentLength(s3ObjectResponse.contentLength());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setCacheControl(cacheControl());
+        if (s3ObjectResponse.eTag() != null) {
+            headers.setETag(s3ObjectResponse.eTag());
+        }
+        if (s3ObjectResponse.lastModified() != null) {
+            headers.setLastModified(s3ObjectResponse.lastModified());
+        }
+        // 'Content-Disposition' 헤더를 'inline'으로 설정하여 브라우저에서 바로 이미지를 표시하도록 합니다.
+        // 다운로드 받게 하려면 'attachment; filename="' + filename + '"' 으로 설정합니다.
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"");
+
+        // 부분 요청이면 S3 가 돌려준 Content-Range 와 함께 206
+        HttpStatus status = HttpStatus.OK;
+        if (s3ObjectResponse.contentRange() != null) {
+            headers.set(HttpHeaders.CONTENT_RANGE, s3ObjectResponse.contentRange());
+            status = HttpStatus.PARTIAL_CONTENT;
+        }
+
+        Release release = Release.register(servletRequest, () -> {
+            s3Object.abort();
+            s3Object.close();
+        });
+        return new ResponseEntity<>(out -> {
+            if (release.claim()) {
+                copy(s3Object, out);
+            }
+        }, headers, status);
+    }
+
+    /**
+     * 디스크 캐시에서 응답 - 조건부 요청/단일 Range 는 캐시된 메타데이터로 직접 처리
+     * (여러 구간 Range 는 전체 200 으로 응답)
+     */
+    private ResponseEntity<StreamingResponseBody> downloadCached(String filename, String range,
+                                                                 String ifNoneMatch, String ifModifiedSince,
+                                                                 HttpServletRequest servletRequest) {
+        FileDiskCache.Hit hit;
         try {
-            // S3Client.getObject는 ResponseInputStream을 반환합니다.
-            ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest);
-            GetObjectResponse s3ObjectResponse = s3Object.response();
-
-            // InputStream을 Spring의 Resource로 래핑합니다.
-            InputStreamResource resource = new InputStreamResource(s3Object);
-
-            // HTTP 응답 헤더를 설정합니다.
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.parseMediaType(s3ObjectResponse.contentType()));
-            headers.setContentLength(s3ObjectResponse.contentLength());
-            // 'Content-Disposition' 헤더를 'inline'으로 설정하여 브라우저에서 바로 이미지를 표시하도록 합니다.
-            // 다운로드 받게 하려면 'attachment; filename="' + filename + '"' 으로 설정합니다.
-            headers.add(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"");
-
-            return new ResponseEntity<>(resource, headers, HttpStatus.OK);
-
-        } catch (Exception e) {
-            // 파일을 찾을 수 없거나 다른 오류 발생 시
-            e.printStackTrace();
+            hit = fileDiskCache.open(filename);
+        } catch (NoSuchFileException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (FileDiskCache.LoadTimeoutException e) {
+            log.warn("파일 캐시 대기 시간 초과: {}", filename);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        } catch (IOException e) {
+            log.warn("파일 캐시 조회 실패: {}", filename, e);
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(cacheControl());
+        if (hit.eTag() != null) {
+            headers.setETag(hit.eTag());
+        }
+        if (hit.lastModified() != null) {
+            headers.setLastModified(hit.lastModified());
+        }
+        if (notModified(hit, ifNoneMatch, ifModifiedSince)) {
+            hit.close();
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        long start = 0;
+        long end = hit.size() - 1;
+        HttpStatus status = HttpStatus.OK;
+        List<HttpRange> ranges = parseRanges(range);
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(hit.size());
+                end = ranges.get(0).getRangeEnd(hit.size());
+            } catch (IllegalArgumentException e) {
+                hit.close();
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + hit.size())
+                        .build();
+            }
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + hit.size());
+            status = HttpStatus.PARTIAL_CONTENT;
+        }
+
+        headers.setContentType(hit.contentType() == null
+                ? MediaType.APPLICATION_OCTET_STREAM
+                : MediaType.parseMediaType(hit.contentType()));
+        headers.setContentLength(end - start + 1);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"");
+
+        long position = start;
+        long count = end - start + 1;
+        // 캐시 파일 고정(pin)을 풀지 않으면 제거된 파일이 디스크에 남아 max-size 를 넘게 됨
+        Release release = Release.register(servletRequest, hit);
+        return new ResponseEntity<>(out -> {
+            if (release.claim()) {
+                transfer(hit, position, count, out);
+            }
+        }, headers, status);
+    }
+
+    /**
+     * 캐시 파일 구간을 고정 크기 버퍼 하나로 응답에 복사하고, 끝나면 캐시 파일 반납
+     * 대상이 서블릿 OutputStream 이라 커널 zero-copy(sendfile)는 아님 - 파일 -> 힙 버퍼 -> 응답 버퍼 복사
+     */
+    private void transfer(FileDiskCache.Hit hit, long position, long count, OutputStream out) throws IOException {
+        try (hit; FileChannel channel = FileChannel.open(hit.path(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(bufferSize.toBytes(), count));
+            long offset = position;
+            long end = position + count;
+            while (offset < end) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), end - offset));
+                int read = channel.read(buffer, offset);
+                if (read < 0) {
+                    break;
+                }
+                out.write(buffer.array(), 0, read);
+                offset += read;
+            }
+            out.flush();
+        }
+    }
+
+    private static boolean notModified(FileDiskCache.Hit hit, String ifNoneMatch, String ifModifiedSince) {
+        if (ifNoneMatch != null) {
+            if (hit.eTag() == null) {
+                return false;
+            }
+            String eTag = weakless(hit.eTag());
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.equals("*") || weakless(value).equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (ifModifiedSince != null && hit.lastModified() != null) {
+            Instant since = parseHttpDate(ifModifiedSince);
+            // HTTP 날짜는 초 단위
+            return since != null && hit.lastModified().getEpochSecond() <= since.getEpochSecond();
+        }
+        return false;
+    }
+
+    // If-None-Match 는 약한 비교 (W/ 접두사 무시)
+    private static String weakless(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    // 형식이 잘못된 Range 헤더는 무시하고 전체 응답 (RFC 9110 14.2)
+    private static List<HttpRange> parseRanges(String range) {
+        if (range == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * 고정 크기 버퍼 하나로 S3 스트림을 응답 스트림에 복사하고, 끝나면(클라이언트가 끊어도) S3 연결을 반납
+     */
+    private void copy(ResponseInputStream<GetObjectResponse> in, OutputStream out) throws IOException {
+        try {
+            byte[] buffer = new byte[(int) bufferSize.toBytes()];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.flush();
+        } catch (IOException e) {
+            // 남은 본문을 읽어 버리지 않고 연결을 끊음 (큰 파일을 끝까지 받지 않도록)
+            in.abort();
+            throw e;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * 응답 본문이 쓰는 자원(S3 스트림, 캐시 파일 고정)의 반납 책임을 한쪽에만 넘긴다.
+     *
+     * StreamingResponseBody 는 요청 스레드에서 자원을 연 뒤 스트리밍 실행기에서 실행되므로,
+     * 실행기가 거절하거나(503) 시작 전에 타임아웃/클라이언트 끊김으로 요청이 끝나면 본문이 실행되지 않는다.
+     * 본문은 시작할 때 claim() 으로 반납 책임을 가져가고, 그러지 못한 채 비동기 요청이 끝나면
+     * afterCompletion 에서 onAbandon 으로 반납한다. (본문이 실행 중에 요청이 끝나면 본문이 쓰기 실패 후 직접 반납)
+     */
+    private static final class Release implements CallableProcessingInterceptor {
+        private static final String KEY = Release.class.getName();
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final Closeable onAbandon;
+
+        private Release(Closeable onAbandon) {
+            this.onAbandon = onAbandon;
+        }
+
+        static Release register(HttpServletRequest request, Closeable onAbandon) {
+            Release release = new Release(onAbandon);
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(KEY, release);
+            return release;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+            if (claim()) {
+                try {
+                    onAbandon.close();
+                } catch (IOException e) {
+                    log.warn("응답 자원 반납 실패", e);
+                }
+            }
+        }
+    }
+
+    // 304 응답에 S3 가 보낸 ETag / Last-Modified 를 그대로 전달
+    private static HttpHeaders validators(S3Exception e) {
+        HttpHeaders headers = new HttpHeaders();
+        if (e.awsErrorDetails() != null && e.awsErrorDetails().sdkHttpResponse() != null) {
+            e.awsErrorDetails().sdkHttpResponse().firstMatchingHeader(HttpHeaders.ETAG)
+                    .ifPresent(headers::setETag);
+            e.awsErrorDetails().sdkHttpResponse().firstMatchingHeader(HttpHeaders.LAST_MODIFIED)
+                    .ifPresent(value -> headers.set(HttpHeaders.LAST_MODIFIED, value));
+        }
+        return headers;
+    }
+
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(cacheMaxAge).cachePublic().immutable();
+    }
+
+    private static Instant parseHttpDate(String value) {
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null; // 형식이 잘못된 조건 헤더는 무시
         }
     }
-}
\ No newline at end of file
+}
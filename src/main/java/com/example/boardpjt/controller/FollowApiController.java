@@ -1,6 +1,5 @@
 package com.example.boardpjt.controller;
 
-import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.service.FollowService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -9,13 +8,14 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/follow")
 public class FollowApiController {
+    private static final int MAX_LIST_SIZE = 100;
+
     private final FollowService followService;
 
     // POST /api/follow/{userId}
@@ -33,36 +33,42 @@ public class FollowApiController {
     }
 
     @GetMapping("/{userId}/followingCount")
-    public int followingCount(@PathVariable Long userId) {
+    public long followingCount(@PathVariable Long userId) {
         return followService.getFollowingCount(userId);
     }
 
     @GetMapping("/{userId}/followerCount")
-    public int followerCount(@PathVariable Long userId) {
+    public long followerCount(@PathVariable Long userId) {
         return followService.getFollowerCount(userId);
     }
 
+    // GET /api/follow/{userId}/followers?after={마지막 id}&limit=
+    // 한 번에 최대 MAX_LIST_SIZE 명 - 전체 목록은 마지막 id 를 after 로 넘겨 이어서 조회 (결과가 limit 보다 적으면 끝)
     @GetMapping("/{userId}/followers")
-    public List<Map<String, Object>> getFollowers(@PathVariable Long userId) {
-        Set<UserAccount> followers = followService.getFollowers(userId);
-        return followers.stream()
-                .map(user -> {
-                    Map<String, Object> userMap = new HashMap<>();
-                    userMap.put("id", user.getId());
-                    userMap.put("username", user.getUsername());
-                    return userMap;
-                })
-                .collect(Collectors.toList());
+    public List<Map<String, Object>> getFollowers(@PathVariable Long userId,
+                                                  @RequestParam(defaultValue = "0") long after,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        return toUserList(followService.getFollowers(userId, after, boundedLimit(limit)));
     }
 
+    // GET /api/follow/{userId}/following?after={마지막 id}&limit=
     @GetMapping("/{userId}/following")
-    public List<Map<String, Object>> getFollowing(@PathVariable Long userId) {
-        Set<UserAccount> following = followService.getFollowing(userId);
-        return following.stream()
+    public List<Map<String, Object>> getFollowing(@PathVariable Long userId,
+                                                  @RequestParam(defaultValue = "0") long after,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        return toUserList(followService.getFollowing(userId, after, boundedLimit(limit)));
+    }
+
+    private static int boundedLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_LIST_SIZE);
+    }
+
+    private static List<Map<String, Object>> toUserList(Map<Long, String> users) {
+        return users.entrySet().stream()
                 .map(user -> {
                     Map<String, Object> userMap = new HashMap<>();
-                    userMap.put("id", user.getId());
-                    userMap.put("username", user.getUsername());
+                    userMap.put("id", user.getKey());
+                    userMap.put("username", user.getValue());
                     return userMap;
                 })
                 .collect(Collectors.toList());
@@ -1,22 +1,24 @@
 package com.example.boardpjt.controller;
 
+import com.example.boardpjt.model.dto.PostCursor;
 import com.example.boardpjt.model.dto.PostDTO;
 import com.example.boardpjt.model.entity.Bookmark;
 import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.service.BookmarkService;
 import com.example.boardpjt.service.FileStorageService;
+import com.example.boardpjt.service.PostCountCache;
+import com.example.boardpjt.service.PostResponseAssembler;
 import com.example.boardpjt.service.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +28,10 @@ public class PostApiController {
     private final PostService postService;
     private final BookmarkService bookmarkService;
     private final FileStorageService fileStorageService;
+    private final PostResponseAssembler postResponseAssembler;
+    private final PostCountCache postCountCache;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     @PostMapping
     public ResponseEntity<PostDTO.Response> createPost(@RequestBody PostDTO.Request dto, Authentication authentication) {
@@ -53,18 +59,51 @@ public class PostApiController {
         return ResponseEntity.ok(PostDTO.Response.from(post, likeCount, fileStorageService));
     }
 
+    /**
+     * 최신순 목록 - count 쿼리 없는 Slice 응답
+     * size 는 1 ~ MAX_PAGE_SIZE 로 제한, includeTotal=true 이면 캐시된 근사 전체 개수를 함께 반환
+     */
     @GetMapping
-    public ResponseEntity<Page<PostDTO.Response>> getPosts(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
-        Page<Post> postPage = postService.findWithPagingAndSearch("", page);
-        Page<PostDTO.Response> responsePage = postPage.map(post -> PostDTO.Response.from(post, postService.getLikeCount(post), fileStorageService));
-        return ResponseEntity.ok(responsePage);
+    public ResponseEntity<PostDTO.SliceResponse> getPosts(@RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "10") int size,
+                                                          @RequestParam(defaultValue = "false") boolean includeTotal) {
+        int boundedSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Slice<Post> slice = postService.findLatest(Math.max(page, 0), boundedSize);
+        Long approximateTotal = includeTotal ? postCountCache.get() : null;
+        return ResponseEntity.ok(postResponseAssembler.toSliceResponse(slice, approximateTotal));
+    }
+
+    /**
+     * 커서(keyset) 페이징 목록 - count 쿼리 없음
+     * 첫 페이지는 cursor= (빈 값), 이후에는 응답의 nextCursor 를 그대로 전달한다.
+     * 정렬 기준은 커서에 포함되며, 검색 조건(keyword, category, tag, searchType)은 매 요청마다 전달한다.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<PostDTO.CursorResponse> getPostsByCursor(@RequestParam String cursor,
+                                                                   @RequestParam(defaultValue = "latest") String sort,
+                                                                   @RequestParam(required = false) String keyword,
+                                                                   @RequestParam(required = false) String category,
+                                                                   @RequestParam(required = false) String tag,
+                                                                   @RequestParam(defaultValue = "titleContent") String searchType,
+                                                                   @RequestParam(defaultValue = "10") int size) {
+        try {
+            PostCursor after = cursor.isEmpty() ? null : PostCursor.decode(cursor);
+            String cursorSort = (after != null) ? after.sort() : sort;
+            if (!PostCursor.supports(cursorSort)) {
+                throw new IllegalArgumentException("커서 페이징을 지원하지 않는 정렬: " + cursorSort);
+            }
+            int boundedSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+            Slice<Post> slice = postService.findByCursor(keyword, category, tag, searchType, cursorSort, after, boundedSize);
+            return ResponseEntity.ok(postResponseAssembler.toCursorResponse(slice, cursorSort));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/search")
     public ResponseEntity<Page<PostDTO.Response>> searchPostsByTag(@RequestParam String tag, @RequestParam(defaultValue = "0") int page) {
         Page<Post> postPage = postService.findByTag(tag, page);
-        Page<PostDTO.Response> responsePage = postPage.map(post -> PostDTO.Response.from(post, postService.getLikeCount(post), fileStorageService));
-        return ResponseEntity.ok(responsePage);
+        return ResponseEntity.ok(postResponseAssembler.toResponsePage(postPage));
     }
 
     @PostMapping("/{postId}/like")
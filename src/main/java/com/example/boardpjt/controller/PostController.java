@@ -1,12 +1,15 @@
 package com.example.boardpjt.controller;
 
+import com.example.boardpjt.model.dto.PostCursor;
 import com.example.boardpjt.model.dto.PostDTO;
+import com.example.boardpjt.model.entity.FileJob;
 import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.model.entity.PostTag;
-import com.example.boardpjt.service.BookmarkService;
-import com.example.boardpjt.service.FileStorageService;
-import com.example.boardpjt.service.FollowService;
+import com.example.boardpjt.service.FileTransferService;
+import com.example.boardpjt.service.PostDetailCache;
+import com.example.boardpjt.service.PostResponseAssembler;
 import com.example.boardpjt.service.PostService;
+import com.example.boardpjt.service.ViewerStateService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +23,8 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Controller
@@ -29,9 +34,10 @@ import java.util.stream.Collectors;
 public class PostController {
 
     private final PostService postService;
-    private final FileStorageService fileStorageService;
-    private final FollowService followService;
-    private final BookmarkService bookmarkService;
+    private final FileTransferService fileTransferService;
+    private final PostResponseAssembler postResponseAssembler;
+    private final PostDetailCache postDetailCache;
+    private final ViewerStateService viewerStateService;
 
     @GetMapping
     public String list(Model model,
@@ -40,22 +46,29 @@ public class PostController {
                        @RequestParam(required = false) String category,
                        @RequestParam(required = false) String tag, // [수정] 태그 파라미터 추가
                        @RequestParam(defaultValue = "titleContent") String searchType,
-                       @RequestParam(defaultValue = "latest") String sort) {
+                       @RequestParam(defaultValue = "latest") String sort,
+                       Authentication authentication) {
         keyword = (keyword == null) ? "" : keyword;
         Page<Post> postPage = postService.findWithPagingAndSearchAndCategory(keyword, category, tag, searchType, sort, page - 1); // [수정] 태그 파라미터 전달
         model.addAttribute("currentPage", page);
         model.addAttribute("totalPages", postPage.getTotalPages());
-        model.addAttribute("posts",
-                postPage.getContent().stream()
-                        .map(post -> PostDTO.Response.from(post, postService.getLikeCount(post), fileStorageService))
-                        .collect(Collectors.toList())
-        );
+        // 작성자명/태그를 일괄 조회하여 행마다 추가 쿼리가 발생하지 않도록 변환
+        model.addAttribute("posts", postResponseAssembler.toResponses(postPage.getContent()));
+        // 행별 좋아요/북마크 아이콘 - 게시물 수와 관계없이 고정 개수 쿼리
+        model.addAttribute("viewerStates", authentication == null
+                ? Map.of()
+                : viewerStateService.getStates(authentication.getName(), postPage.map(Post::getId).getContent()));
         model.addAttribute("keyword", keyword);
         model.addAttribute("selectedCategory", category != null ? category : "");
         model.addAttribute("selectedTag", tag != null ? tag : ""); // [수정] 선택된 태그를 모델에 추가
         model.addAttribute("searchType", searchType);
         model.addAttribute("sort", sort);
         model.addAttribute("totalElements", postPage.getTotalElements());
+        // "더 보기" 용 커서: 현재 페이지 마지막 게시물 다음부터 /api/posts?cursor= 로 이어서 조회
+        List<Post> content = postPage.getContent();
+        model.addAttribute("nextCursor", postPage.hasNext() && PostCursor.supports(sort) && !content.isEmpty()
+                ? PostCursor.after(sort, content.get(content.size() - 1)).encode()
+                : null);
 
         // 제안: 인기 태그 목록을 조회하여 모델에 추가 (상위 5개)
         model.addAttribute("popularTags", postService.getPopularTags(5));
@@ -78,16 +91,21 @@ public class PostController {
         }
 
         try {
-            // ✅ 파일이 있을 때만 업로드 처리
+            // ✅ 파일이 있을 때만 업로드 처리 - 임시 저장 후 S3 전송은 백그라운드에서 (FileTransferService)
+            FileJob upload = null;
             if (file != null && !file.isEmpty()) {
-                String savedFileName = fileStorageService.uploadFile(file);
-                dto.setImageUrl(savedFileName);
+                upload = fileTransferService.spool(file);
+                dto.setImageUrl(upload.getFileName());
             } else {
                 // ✅ 파일이 없으면 imageUrl을 명시적으로 null로 설정
                 dto.setImageUrl(null);
             }
 
-            postService.createPost(dto, authentication.getName());
+            Post post = postService.createPost(dto, authentication.getName(),
+                    upload != null ? Post.ImageStatus.PENDING : Post.ImageStatus.READY);
+            if (upload != null) {
+                fileTransferService.submitUpload(upload, post.getId());
+            }
             return "redirect:/posts";
 
         } catch (IllegalArgumentException e) {
@@ -126,21 +144,17 @@ public class PostController {
             Post existingPost = postService.findById(id);
             String existingImageUrl = existingPost.getImageUrl();
 
+            FileJob upload = null;
+
             // 1. 새 파일이 업로드된 경우
             if (file != null && !file.isEmpty()) {
-                // 기존 이미지가 있으면 삭제
-                if (existingImageUrl != null) {
-                    fileStorageService.deleteFile(existingImageUrl);
-                }
-                // 새 파일 업로드 후 DTO에 URL 설정
-                String savedFileName = fileStorageService.uploadFile(file);
-                dto.setImageUrl(savedFileName);
+                // 새 파일 임시 저장 후 DTO에 키 설정 (S3 전송은 게시물 수정 후 백그라운드에서)
+                // 기존 이미지는 새 이미지가 게시물에 반영된 뒤 작업 스레드가 삭제 (업로드 실패 시 기존 이미지로 되돌림)
+                upload = fileTransferService.spool(file, existingImageUrl);
+                dto.setImageUrl(upload.getFileName());
             }
             // 2. 새 파일이 없고, 이미지 삭제가 요청된 경우
             else if (dto.isDeleteImage()) {
-                if (existingImageUrl != null) {
-                    fileStorageService.deleteFile(existingImageUrl);
-                }
                 dto.setImageUrl(null); // DB에 null로 업데이트하도록 설정
             }
             // 3. 새 파일도 없고, 삭제 요청도 없는 경우 (기존 이미지 유지)
@@ -149,7 +163,14 @@ public class PostController {
                 dto.setImageUrl(existingImageUrl);
             }
 
-            postService.updatePost(id, dto, authentication.getName());
+            postService.updatePost(id, dto, authentication.getName(),
+                    upload != null ? Post.ImageStatus.PENDING : null);
+            if (upload != null) {
+                fileTransferService.submitUpload(upload, id);
+            } else if (existingImageUrl != null && !existingImageUrl.equals(dto.getImageUrl())) {
+                // 이미지 삭제 - 수정이 반영된 뒤에 백그라운드에서 삭제 (수정 실패 시 이미지가 사라지지 않도록)
+                fileTransferService.deleteLater(existingImageUrl);
+            }
             return "redirect:/posts/" + id;
 
         } catch (IllegalArgumentException e) {
@@ -175,25 +196,20 @@ public class PostController {
 
     @GetMapping("/{id}")
     public String detail(@PathVariable Long id, Model model, Authentication authentication) {
-        Post post = postService.findById(id);
+        // 공용 뷰 + 사용자별 상태를 각각 캐시에서 조회 (PostDetailCache)
+        PostDTO.DetailView post = postDetailCache.getView(id, () -> PostDTO.DetailView.from(postService.findById(id)));
         model.addAttribute("post", post);
+        model.addAttribute("likeCount", post.likeCount());
 
-        long likeCount = postService.getLikeCount(post);
-        model.addAttribute("likeCount", likeCount);
-
-        boolean isBookmarked = false;
-        boolean isLiked = false;
+        PostDTO.ViewerState viewer = PostDTO.ViewerState.ANONYMOUS;
         if (authentication != null) {
             String username = authentication.getName();
-            isBookmarked = bookmarkService.isBookmarked(id, username);
-            isLiked = postService.isLiked(id, username);
-            boolean isFollowing = followService.isFollowing(username, post.getAuthor().getId());
-            model.addAttribute("followCheck", isFollowing);
-        } else {
-            model.addAttribute("followCheck", false);
+            viewer = postDetailCache.getViewerState(username, id, post.authorId(),
+                    () -> viewerStateService.getState(username, id));
         }
-        model.addAttribute("isBookmarked", isBookmarked);
-        model.addAttribute("isLiked", isLiked);
+        model.addAttribute("followCheck", viewer.followingAuthor());
+        model.addAttribute("isBookmarked", viewer.bookmarked());
+        model.addAttribute("isLiked", viewer.liked());
 
         return "post/detail";
     }
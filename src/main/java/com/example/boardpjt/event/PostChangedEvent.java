@@ -0,0 +1,51 @@
+package com.example.boardpjt.event;
+
+import com.example.boardpjt.model.entity.Post;
+
+import java.util.List;
+
+/**
+ * 게시물 생성/수정/삭제 시 PostService 가 발행하는 이벤트
+ * 검색 인덱스, 캐시 등 게시물 변경에 반응해야 하는 컴포넌트는
+ * @TransactionalEventListener(phase = AFTER_COMMIT) 로 구독하여 커밋된 변경만 반영한다.
+ *
+ * @param previousTags 변경 전 태그 목록 (생성 시 빈 목록)
+ * @param currentTags  변경 후 태그 목록 (삭제 시 빈 목록)
+ */
+public record PostChangedEvent(
+        Type type,
+        Long postId,
+        String title,
+        String content,
+        String category,
+        String authorName,
+        List<String> previousTags,
+        List<String> currentTags
+) {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    public static PostChangedEvent created(Post post, List<String> tags) {
+        return of(Type.CREATED, post, List.of(), tags);
+    }
+
+    public static PostChangedEvent updated(Post post, List<String> previousTags, List<String> currentTags) {
+        return of(Type.UPDATED, post, previousTags, currentTags);
+    }
+
+    public static PostChangedEvent deleted(Post post, List<String> previousTags) {
+        return of(Type.DELETED, post, previousTags, List.of());
+    }
+
+    private static PostChangedEvent of(Type type, Post post, List<String> previousTags, List<String> currentTags) {
+        return new PostChangedEvent(
+                type,
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCategory(),
+                post.getAuthor().getUsername(),
+                List.copyOf(previousTags),
+                List.copyOf(currentTags)
+        );
+    }
+}
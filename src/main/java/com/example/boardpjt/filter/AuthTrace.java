@@ -0,0 +1,64 @@
+package com.example.boardpjt.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * JWT 인증 필터용 추적 로그
+ *
+ * - DEBUG 레벨이 꺼져 있으면 아무것도 만들거나 출력하지 않음 (level guard)
+ * - DEBUG 가 켜져 있어도 RequestCorrelationFilter 가 샘플링한 요청만 출력
+ * - 메시지는 SLF4J 파라미터 형식으로 작성 (문자열 연결 없음)
+ * - 토큰 값은 절대 인자로 넘기지 않는다 (사용자명, 상태 등만 기록)
+ *
+ * 활성화: logging.level.com.example.boardpjt.filter.AuthTrace=DEBUG
+ * 샘플링 비율: board.auth.trace.sample-rate (0.0 ~ 1.0)
+ */
+public final class AuthTrace {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthTrace.class);
+
+    // 샘플링된 요청에만 설정되는 request attribute
+    static final String SAMPLED_ATTRIBUTE = AuthTrace.class.getName() + ".SAMPLED";
+
+    private AuthTrace() {
+    }
+
+    /**
+     * 현재 요청의 추적 로그를 남길지 여부 (DEBUG 활성 + 샘플링된 요청)
+     */
+    public static boolean isEnabled(HttpServletRequest request) {
+        return log.isDebugEnabled() && request.getAttribute(SAMPLED_ATTRIBUTE) != null;
+    }
+
+    /**
+     * 샘플링 여부 결정 - DEBUG 가 꺼져 있으면 난수도 만들지 않음
+     */
+    static boolean shouldSample(double sampleRate) {
+        return log.isDebugEnabled() && sampleRate > 0
+                && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    // 인자 개수별 오버로드: 호출 시 varargs 배열이 만들어지지 않도록 함
+
+    public static void debug(HttpServletRequest request, String message) {
+        if (isEnabled(request)) {
+            log.debug(message);
+        }
+    }
+
+    public static void debug(HttpServletRequest request, String format, Object arg) {
+        if (isEnabled(request)) {
+            log.debug(format, arg);
+        }
+    }
+
+    public static void debug(HttpServletRequest request, String format, Object arg1, Object arg2) {
+        if (isEnabled(request)) {
+            log.debug(format, arg1, arg2);
+        }
+    }
+}
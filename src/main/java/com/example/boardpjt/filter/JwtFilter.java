@@ -1,5 +1,6 @@
 package com.example.boardpjt.filter;
 
+import com.example.boardpjt.service.AuthPrincipalService;
 import com.example.boardpjt.util.CookieUtil;
 import com.example.boardpjt.util.JwtUtil;
 import jakarta.servlet.FilterChain;
@@ -8,11 +9,8 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -31,8 +29,8 @@ public class JwtFilter extends OncePerRequestFilter {
     // JWT 토큰 생성, 검증, 파싱을 담당하는 유틸리티 클래스
     private final JwtUtil jwtUtil;
 
-    // 사용자 세부 정보를 로드하는 서비스 (DB에서 사용자 정보 조회)
-    private final UserDetailsService userDetailsService;
+    // 토큰 클레임으로 인증 정보를 만드는 서비스 (stateless 또는 principal 캐시 + DB 조회)
+    private final AuthPrincipalService authPrincipalService;
     // 주의: 이 클래스는 Spring Bean이 아니므로 SecurityConfig에서 수동으로 의존성 주입
 
     /**
@@ -51,8 +49,8 @@ public class JwtFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         // === 디버깅 로그 ===
-        // 필터 실행 확인용 로그 (운영환경에서는 제거 권장)
-        System.out.println("[Jwt Filter] - Access Token 검증 시작");
+        // DEBUG + 샘플링된 요청에서만 출력 (AuthTrace 참고)
+        AuthTrace.debug(request, "[JWT Filter] Access Token 검증 시작");
 
         // === 1단계: 쿠키에서 Access Token 추출 (개선된 방식) ===
         // CookieUtil.findCookie(): 쿠키 검색 로직을 유틸리티로 분리
@@ -73,9 +71,6 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         */
 
-        // 디버깅용 토큰 값 출력 (운영환경에서는 보안상 제거 필요)
-        System.out.println("Access Token = " + token);
-
         // === 2단계: 토큰 부재 시 처리 ===
         if (token == null) {
             // === Access Token이 없는 경우의 시나리오들 ===
@@ -84,7 +79,7 @@ public class JwtFilter extends OncePerRequestFilter {
             // 3. 쿠키가 손상되거나 조작된 경우
             // 4. 다른 도메인에서의 요청 (CORS 이슈)
 
-            System.out.println("[JWT Filter] Access Token 없음 - 인증 없이 진행");
+            AuthTrace.debug(request, "[JWT Filter] Access Token 없음 - 인증 없이 진행");
 
             // 인증 없이 다음 필터로 요청 전달
             // SecurityConfig의 설정에 따라 접근 제한이 적용됨:
@@ -102,36 +97,41 @@ public class JwtFilter extends OncePerRequestFilter {
         // }
         // 하지만 현재는 토큰 파싱 과정에서 유효성 검증을 함께 수행
 
+        // === RefreshJwtFilter 에서 토큰 갱신과 함께 인증이 끝난 경우 ===
+        // 요청 쿠키의 Access Token 은 만료된 옛 토큰이므로 다시 검증하지 않음
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         // === 3단계: JWT 토큰 검증 및 인증 정보 설정 ===
         try {
-            System.out.println("[JWT Filter] Access Token 검증 및 인증 정보 설정 시작");
+            AuthTrace.debug(request, "[JWT Filter] Access Token 검증 및 인증 정보 설정 시작");
 
-            // === 토큰에서 사용자명 추출 ===
-            // jwtUtil.getUsername(): 토큰 파싱 + 유효성 검증을 동시 수행
+            // === 토큰에서 사용자명/권한 추출 ===
+            // jwtUtil.verifyAccessToken(): 토큰 파싱 + 유효성 검증을 동시 수행
+            // RefreshJwtFilter 에서 이미 검증한 결과(request attribute)가 있으면 재사용 -> 요청당 서명 검증 1회
             // 이 과정에서 다음 검증들이 이루어짐:
             // - 토큰 형식 검증 (Header.Payload.Signature)
             // - 서명 검증 (SecretKey로 무결성 확인)
             // - 만료시간 검증 (exp 클레임 확인)
             // - 발급자, 대상자 등 기타 클레임 검증
-            String username = jwtUtil.getUsername(token);
-
-            System.out.println("[JWT Filter] 토큰에서 추출된 사용자명: " + username);
-
-            // === 사용자 세부 정보 로드 ===
-            // CustomUserDetailsService를 통해 데이터베이스에서 사용자 정보 조회
-            // 이 과정에서 사용자 존재 여부, 계정 상태, 권한 정보 등을 확인
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            JwtUtil.TokenVerification verification = jwtUtil.verifyAccessToken(request, token);
+            if (!verification.isValid()) {
+                AuthTrace.debug(request, "[JWT Filter] 토큰 검증 실패: {}", verification.status());
+                filterChain.doFilter(request, response);
+                return;
+            }
+            String username = verification.username();
 
-            System.out.println("[JWT Filter] 사용자 정보 로드 완료: " + userDetails.getUsername());
-            System.out.println("[JWT Filter] 사용자 권한: " + userDetails.getAuthorities());
+            AuthTrace.debug(request, "[JWT Filter] 토큰에서 추출된 사용자명: {}", username);
 
             // === Spring Security 인증 객체 생성 ===
-            // UsernamePasswordAuthenticationToken을 사용하여 인증된 상태의 Authentication 생성
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails,                    // Principal: 인증된 사용자의 상세 정보
-                    null,                          // Credentials: JWT 방식에서는 비밀번호 불필요
-                    userDetails.getAuthorities()   // Authorities: 사용자의 역할/권한 목록 (ROLE_USER, ROLE_ADMIN 등)
-            );
+            // 기본(stateless)은 검증된 클레임만으로 생성하여 요청마다 DB 를 조회하지 않음
+            // board.auth.stateless=false 이면 TTL principal 캐시를 거쳐 DB 에서 사용자 정보 확인
+            Authentication authentication = authPrincipalService.authenticate(username, verification.role());
+
+            AuthTrace.debug(request, "[JWT Filter] 사용자 권한: {}", authentication.getAuthorities());
 
             // === Spring Security Context에 인증 정보 저장 ===
             // SecurityContextHolder는 Thread-Local 방식으로 현재 스레드의 보안 컨텍스트 관리
@@ -141,13 +141,14 @@ public class JwtFilter extends OncePerRequestFilter {
             // - SecurityContextHolder.getContext().getAuthentication()으로 직접 조회
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            System.out.println("[JWT Filter] 인증 정보 설정 완료 - SecurityContext에 저장됨");
+            AuthTrace.debug(request, "[JWT Filter] 인증 정보 설정 완료 - SecurityContext에 저장됨");
 
         } catch (Exception e) {
             // === 토큰 검증 실패 처리 ===
             // 다양한 예외 상황들을 포괄적으로 처리
 
-            System.err.println("[JWT Filter] 토큰 검증 실패: " + e.getClass().getSimpleName() + " - " + e.getMessage());
+            // 예외 메시지에 토큰 내용이 포함될 수 있으므로 예외 종류만 기록
+            AuthTrace.debug(request, "[JWT Filter] 인증 실패: {}", e.getClass().getSimpleName());
 
             // === 가능한 예외 시나리오들 ===
             // 1. ExpiredJwtException: Access Token 만료
@@ -176,7 +177,7 @@ public class JwtFilter extends OncePerRequestFilter {
         // - ExceptionTranslationFilter: 인증/인가 예외 처리
         // - FilterSecurityInterceptor: 최종 보안 검사
 
-        System.out.println("[JWT Filter] 필터 처리 완료 - 다음 필터로 요청 전달");
+        AuthTrace.debug(request, "[JWT Filter] 필터 처리 완료 - 다음 필터로 요청 전달");
         filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,53 @@
+package com.example.boardpjt.filter;
+
+import com.example.boardpjt.config.QueryCountInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청당 실행된 SQL 개수를 board.http.queries 분포 지표로 기록하는 필터
+ * N+1 쿼리 회귀를 /actuator/prometheus 에서 바로 확인할 수 있도록 한다.
+ * 정적 리소스와 actuator 요청은 제외한다.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final DistributionSummary queriesPerRequest;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.queriesPerRequest = DistributionSummary.builder("board.http.queries")
+                .description("요청당 실행된 SQL 개수")
+                .baseUnit("queries")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queriesPerRequest.record(QueryCountInspector.stop());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/actuator")
+                || uri.startsWith("/css/")
+                || uri.startsWith("/js/")
+                || uri.startsWith("/images/");
+    }
+}
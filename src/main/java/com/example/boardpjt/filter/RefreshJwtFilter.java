@@ -2,20 +2,18 @@ package com.example.boardpjt.filter;
 
 import com.example.boardpjt.model.entity.RefreshToken;
 import com.example.boardpjt.model.repository.RefreshTokenRepository;
+import com.example.boardpjt.service.AuthPrincipalService;
 import com.example.boardpjt.util.CookieUtil;
 import com.example.boardpjt.util.JwtUtil;
-import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -42,13 +40,16 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
     // JWT 토큰 생성, 검증, 파싱을 담당하는 유틸리티 클래스
     private final JwtUtil jwtUtil;
 
-    // 사용자 정보를 데이터베이스에서 로드하는 서비스
-    private final UserDetailsService userDetailsService;
+    // 토큰 클레임으로 인증 정보를 만드는 서비스 (stateless 또는 principal 캐시 + DB 조회)
+    private final AuthPrincipalService authPrincipalService;
 
     // Refresh Token을 데이터베이스에서 관리하기 위한 Repository
     // 서버에서 Refresh Token의 유효성을 추적하고 관리
     private final RefreshTokenRepository refreshTokenRepository;
 
+    // Redis Refresh Token 조회 시간 지표 (board.redis.refresh.lookup)
+    private final Timer refreshLookupTimer;
+
     /**
      * HTTP 요청마다 실행되는 필터 메인 로직
      * Access Token의 상태를 확인하고, 만료된 경우 Refresh Token으로 자동 갱신
@@ -65,7 +66,7 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         // === 필터 실행 시작 로그 ===
-        System.out.println("[Refresh Jwt Filter] - 토큰 갱신 필터 시작");
+        AuthTrace.debug(request, "[Refresh Filter] 토큰 갱신 필터 시작");
 
         // === 1단계: Access Token 존재 여부 확인 ===
         // CookieUtil을 사용하여 요청에서 Access Token 추출
@@ -76,24 +77,23 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
             // - 비로그인 사용자의 공개 페이지 접근
             // - 이미 완전히 로그아웃된 상태
             // - 쿠키가 삭제되거나 손상된 경우
-            System.out.println("[Refresh Filter] Access Token 없음 - 갱신 불필요");
+            AuthTrace.debug(request, "[Refresh Filter] Access Token 없음 - 갱신 불필요");
             filterChain.doFilter(request, response);
             return; // 토큰 갱신 로직 건너뛰고 다음 필터로 진행
         }
 
         // === 2단계: Access Token 유효성 검증 ===
-        try {
-            // Access Token의 유효성을 검증
-            // 주의: 여기서는 DB 조회 없이 토큰 자체의 유효성만 검사
-            // jwtUtil.getClaims(accessToken); // 대안: 클레임 추출로 검증
-            jwtUtil.validateToken(accessToken);
+        // 주의: 여기서는 DB 조회 없이 토큰 자체의 유효성만 검사
+        // 검증 결과는 request attribute 에 저장되어 JwtFilter 에서 다시 파싱하지 않음
+        JwtUtil.TokenVerification verification = jwtUtil.verifyAccessToken(request, accessToken);
 
+        if (verification.isValid()) {
             // 토큰이 유효한 경우: 갱신 불필요, 다음 필터(JwtFilter)에서 정상 처리됨
-            System.out.println("[Refresh Filter] Access Token 유효 - 갱신 불필요");
+            AuthTrace.debug(request, "[Refresh Filter] Access Token 유효 - 갱신 불필요");
 
-        } catch (ExpiredJwtException ex) {
+        } else if (verification.isExpired()) {
             // === Access Token 만료 시 자동 갱신 처리 ===
-            System.out.println("[Refresh Filter] Access Token 만료 감지 - 자동 갱신 시작");
+            AuthTrace.debug(request, "[Refresh Filter] Access Token 만료 감지 - 자동 갱신 시작");
 
             // Refresh Token을 사용하여 새로운 Access Token 발급
             handleRefreshToken(request, response);
@@ -102,16 +102,16 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
             // 성공 시: 새로운 Access Token으로 JwtFilter에서 정상 처리
             // 실패 시: JwtFilter에서 인증 실패 처리
 
-        } catch (Exception e) {
+        } else {
             // === 기타 토큰 오류 처리 ===
-            // ExpiredJwtException 외의 다른 JWT 관련 예외들:
+            // 만료 외의 다른 JWT 관련 오류들:
             // - MalformedJwtException: 잘못된 토큰 형식
             // - SignatureException: 서명 검증 실패
             // - 기타 보안 관련 예외들
-            System.out.println("[Refresh Filter] Access Token 오류 (만료 외): " + e.getClass().getSimpleName());
+            AuthTrace.debug(request, "[Refresh Filter] Access Token 오류 (만료 외)");
 
             // 토큰 갱신 없이 다음 필터로 진행
-            // JwtFilter에서 동일한 예외가 발생하여 인증 실패 처리됨
+            // JwtFilter는 저장된 검증 결과(INVALID)를 보고 인증 없이 진행
             filterChain.doFilter(request, response);
             return;
         }
@@ -133,7 +133,7 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
      */
     private void handleRefreshToken(HttpServletRequest request, HttpServletResponse response) {
         try {
-            System.out.println("[Refresh Filter] Refresh Token 갱신 처리 시작");
+            AuthTrace.debug(request, "[Refresh Filter] Refresh Token 갱신 처리 시작");
 
             // === 1단계: Refresh Token 추출 ===
             String refreshToken = CookieUtil.findCookie(request, "refresh_token");
@@ -143,17 +143,22 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
                 // - Access Token만 만료되고 Refresh Token은 삭제된 상태
                 // - 부분적인 로그아웃 상태 (비정상적 상황)
                 // - 쿠키 조작 또는 손상
-                System.out.println("[Refresh Filter] Refresh Token 없음 - 갱신 불가");
+                AuthTrace.debug(request, "[Refresh Filter] Refresh Token 없음 - 갱신 불가");
                 return; // 갱신 중단, 사용자는 재로그인 필요
             }
 
             // === 2단계: Refresh Token에서 사용자 정보 추출 ===
-            String username = jwtUtil.getUsername(refreshToken);
-            System.out.println("[Refresh Filter] Refresh Token에서 추출된 사용자: " + username);
+            // 한 번의 검증으로 사용자명과 권한을 함께 꺼냄 (getUsername/getRole 각각 파싱하지 않음)
+            JwtUtil.TokenVerification refreshVerification = jwtUtil.verify(refreshToken);
+            if (!refreshVerification.isValid()) {
+                throw new RuntimeException("Refresh Token 검증 실패: " + refreshVerification.status());
+            }
+            String username = refreshVerification.username();
+            AuthTrace.debug(request, "[Refresh Filter] Refresh Token에서 추출된 사용자: {}", username);
 
             // === 3단계: 서버 저장 Refresh Token과 비교 검증 ===
             // 데이터베이스에서 해당 사용자의 Refresh Token 조회
-            RefreshToken storedToken = refreshTokenRepository.findById(username)
+            RefreshToken storedToken = refreshLookupTimer.record(() -> refreshTokenRepository.findById(username))
                     .orElseThrow(() -> new RuntimeException("서버에 저장된 Refresh Token 없음"));
 
             // 클라이언트의 Refresh Token과 서버 저장 토큰 비교
@@ -165,11 +170,11 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
                 throw new RuntimeException("Refresh Token 불일치 - 보안 위험 감지");
             }
 
-            System.out.println("[Refresh Filter] Refresh Token 검증 완료");
+            AuthTrace.debug(request, "[Refresh Filter] Refresh Token 검증 완료");
 
             // === 4단계: 새로운 Access Token 발급 ===
             // Refresh Token에서 사용자 권한 정보 추출
-            String role = jwtUtil.getRole(refreshToken);
+            String role = refreshVerification.role();
 
             // 새로운 Access Token 생성 (1시간 유효)
             String newAccessToken = jwtUtil.generateToken(username, role, false);
@@ -177,22 +182,16 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
             // 새 Access Token을 HTTP 쿠키로 설정
             CookieUtil.createCookie(response, "access_token", newAccessToken, 60 * 60); // 1시간
 
-            System.out.println("[Refresh Filter] 새 Access Token 발급 완료");
+            AuthTrace.debug(request, "[Refresh Filter] 새 Access Token 발급 완료");
 
             // === 5단계: SecurityContext에 인증 정보 설정 ===
             // 갱신된 토큰으로 즉시 인증 상태 설정하여 현재 요청 처리 가능
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails,                    // 인증된 사용자 정보
-                    null,                          // 자격증명 (JWT 방식에서는 불필요)
-                    userDetails.getAuthorities()   // 사용자 권한 목록
-            );
+            Authentication authentication = authPrincipalService.authenticate(username, role);
 
             // SecurityContext에 인증 정보 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            System.out.println("[Refresh Filter] 인증 정보 설정 완료 - 토큰 갱신 성공");
+            AuthTrace.debug(request, "[Refresh Filter] 인증 정보 설정 완료 - 토큰 갱신 성공");
 
             // === 추가 보안 고려사항 ===
             // 1. Refresh Token 회전 (Rotation) 정책 적용 고려:
@@ -202,7 +201,7 @@ public class RefreshJwtFilter extends OncePerRequestFilter {
 
         } catch (Exception e) {
             // === Refresh Token 갱신 실패 처리 ===
-            System.err.println("[Refresh Filter] 토큰 갱신 실패: " + e.getMessage());
+            AuthTrace.debug(request, "[Refresh Filter] 토큰 갱신 실패: {}", e.getMessage());
 
             // === 가능한 실패 시나리오들 ===
             // 1. ExpiredJwtException: Refresh Token도 만료됨
@@ -0,0 +1,70 @@
+package com.example.boardpjt.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 상관관계 ID(requestId)를 MDC 에 넣고, 인증 추적 로그 샘플링 여부를 정하는 필터
+ * 보안 필터 체인의 가장 앞(RefreshJwtFilter 이전)에 등록된다.
+ *
+ * - 클라이언트가 X-Request-Id 헤더를 보내면 그대로 사용, 없거나 형식이 잘못되면 새로 생성
+ * - 응답 헤더에도 X-Request-Id 를 넣어 클라이언트/프록시 로그와 연결 가능
+ * - 로그 패턴의 %X{requestId} 로 출력됨
+ */
+@RequiredArgsConstructor
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final int MAX_LENGTH = 64;
+
+    // AuthTrace 로그를 남길 요청 비율 (0.0 ~ 1.0)
+    private final double sampleRate;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER);
+        if (!isValid(requestId)) {
+            requestId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        }
+        response.setHeader(HEADER, requestId);
+
+        if (AuthTrace.shouldSample(sampleRate)) {
+            request.setAttribute(AuthTrace.SAMPLED_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * 로그 위조를 막기 위해 영문/숫자/하이픈만 허용
+     */
+    private static boolean isValid(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            if (!(Character.isLetterOrDigit(c) && c < 128) && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.boardpjt.model.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서(keyset) 페이징용 위치 정보
+ * 마지막으로 받은 댓글의 (작성 시각, id) 를 담고, 클라이언트에는 불투명한 문자열로 전달한다.
+ * 정렬은 작성 시각 오름차순, 같으면 id 오름차순 (idx_comment_post_created 순서)
+ *
+ * @param createdAt 마지막 댓글의 작성 시각
+ * @param id        마지막 댓글 id
+ */
+public record CommentCursor(LocalDateTime createdAt, long id) {
+
+    public static CommentCursor after(CommentDTO.View last) {
+        return new CommentCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서");
+            }
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서", e);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.boardpjt.model.dto;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class CommentDTO {
     public record Request(
             Long postId,
             String content,
-            String username
+            String username,
+            Long parentId // 답글이면 부모 댓글 id (최상위 댓글이면 null)
     ) {}
     public record Response(
             Long id, // 댓글의 ID
@@ -12,5 +16,71 @@ public class CommentDTO {
             String content, // 댓글 내용
             String username, // 댓글 작성자
             String createdAt // 댓글 작성일
+    ) {
+        public static Response from(View view) {
+            return new Response(view.getId(), view.getPostId(), view.getContent(),
+                    view.getUsername(), view.getCreatedAt().toString());
+        }
+    }
+
+    /**
+     * 댓글 목록 조회용 프로젝션 (CommentRepository) - 작성자명을 조인으로 함께 조회하여 엔티티/지연 로딩 없음
+     */
+    public interface View {
+        Long getId();
+        Long getPostId();
+        String getContent();
+        String getUsername();
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * 스레드 조회용 프로젝션 - path 순서로 읽으면 부모 바로 뒤에 하위 답글이 이어진다
+     */
+    public interface ThreadView extends View {
+        Long getParentId();
+        int getDepth();
+        long getReplyCount();
+        String getPath();
+    }
+
+    /**
+     * 스레드 댓글 한 건 - 클라이언트는 depth 로 들여쓰기, replyCount 로 '답글 더보기' 표시
+     */
+    public record Node(
+            Long id,
+            Long parentId,
+            int depth,
+            long replyCount, // 직접 달린 답글 수
+            String content,
+            String username,
+            String createdAt
+    ) {
+        public static Node from(ThreadView view) {
+            return new Node(view.getId(), view.getParentId(), view.getDepth(), view.getReplyCount(),
+                    view.getContent(), view.getUsername(), view.getCreatedAt().toString());
+        }
+    }
+
+    /**
+     * 스레드 페이지 응답 - content 는 스레드 순서(부모 -> 하위 답글)로 정렬
+     *
+     * @param nextCursor 다음 페이지 요청 시 ?after= 로 전달할 댓글 id (마지막 페이지면 null)
+     */
+    public record ThreadPage(
+            List<Node> content,
+            Long nextCursor,
+            boolean hasNext
+    ) {}
+
+    /**
+     * 커서 페이징 응답
+     *
+     * @param nextCursor 다음 페이지 요청 시 ?after= 로 전달 (마지막 페이지면 null)
+     */
+    public record PageResponse(
+            List<Response> content,
+            String nextCursor,
+            boolean hasNext
     ) {}
 }
@@ -0,0 +1,62 @@
+package com.example.boardpjt.model.dto;
+
+import com.example.boardpjt.model.entity.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 게시물 목록 커서(keyset) 페이징용 위치 정보
+ * 마지막으로 받은 게시물의 (정렬 키, id) 를 담고, 클라이언트에는 불투명한 문자열로 전달한다.
+ *
+ * - latest : id 내림차순 (key 는 사용하지 않음)
+ * - rating : 별점(없으면 0) 내림차순, 같으면 id 내림차순
+ * - popular: like_count 내림차순, 같으면 id 내림차순
+ *
+ * @param sort 정렬 기준
+ * @param key  마지막 게시물의 정렬 키 값
+ * @param id   마지막 게시물 id
+ */
+public record PostCursor(String sort, long key, long id) {
+
+    public static final Set<String> SORTS = Set.of("latest", "rating", "popular");
+
+    public static boolean supports(String sort) {
+        return SORTS.contains(sort);
+    }
+
+    /**
+     * 주어진 게시물 다음부터 조회하는 커서
+     */
+    public static PostCursor after(String sort, Post last) {
+        long key = switch (sort) {
+            case "rating" -> last.getRating() == null ? 0 : last.getRating();
+            case "popular" -> last.getLikeCount();
+            default -> last.getId();
+        };
+        return new PostCursor(sort, key, last.getId());
+    }
+
+    public String encode() {
+        String raw = sort + ":" + key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !supports(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서");
+            }
+            return new PostCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류(NumberFormatException 포함)도 같은 메시지로 처리
+            throw new IllegalArgumentException("잘못된 커서", e);
+        }
+    }
+}
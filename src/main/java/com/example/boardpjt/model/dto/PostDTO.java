@@ -37,6 +37,7 @@ public class PostDTO {
             String username,
             LocalDateTime createdAt,
             String imageUrl,
+            String thumbnailUrl, // 목록 카드용 축소 이미지 (없으면 원본 URL)
             String category,
             Integer rating,
             long likeCount,
@@ -49,7 +50,8 @@ public class PostDTO {
                     post.getContent(),
                     post.getAuthor().getUsername(),
                     post.getCreatedAt(),
-                    fileStorageService.getFileUrl(post.getImageUrl()),
+                    fileStorageService.getFileUrl(readyImage(post)),
+                    fileStorageService.getFileUrl(readyImage(post), "thumb"),
                     post.getCategory(),
                     post.getRating(),
                     likeCount,
@@ -58,5 +60,104 @@ public class PostDTO {
                             .collect(Collectors.toList())
             );
         }
+
+        /**
+         * 작성자명/태그를 미리 일괄 조회한 경우 사용 (PostResponseAssembler)
+         * 지연 로딩 연관관계(author, postTags)를 건드리지 않는다.
+         */
+        public static Response of(Post post, String username, List<String> tags, FileStorageService fileStorageService) {
+            return new Response(
+                    post.getId(),
+                    post.getTitle(),
+                    post.getContent(),
+                    username,
+                    post.getCreatedAt(),
+                    fileStorageService.getFileUrl(readyImage(post)),
+                    fileStorageService.getFileUrl(readyImage(post), "thumb"),
+                    post.getCategory(),
+                    post.getRating(),
+                    post.getLikeCount(),
+                    tags
+            );
+        }
+
+        // 업로드가 끝나지 않은(또는 실패한) 이미지는 목록에서 '이미지 없음'으로 표시
+        private static String readyImage(Post post) {
+            return post.isImageReady() ? post.getImageUrl() : null;
+        }
+    }
+
+    /**
+     * 커서 페이징 응답
+     *
+     * @param nextCursor 다음 요청에 그대로 전달할 커서 (마지막 페이지면 null)
+     */
+    public record CursorResponse(
+            List<Response> content,
+            String nextCursor,
+            boolean hasNext
+    ) {
+    }
+
+    /**
+     * 목록 응답 (Slice 기반, 기본적으로 전체 개수 없음)
+     *
+     * @param approximateTotal includeTotal=true 일 때만 채워지는 근사 전체 개수 (캐시 값)
+     */
+    public record SliceResponse(
+            List<Response> content,
+            int page,
+            int size,
+            boolean hasNext,
+            Long approximateTotal
+    ) {
+    }
+
+    /**
+     * 상세 페이지 공용 뷰 (사용자와 무관한 값만) - PostDetailCache 가 Redis 에 JSON 으로 저장
+     * imageUrl 은 저장된 파일 이름(키) 그대로이며 URL 변환은 템플릿에서 처리한다.
+     */
+    public record DetailView(
+            Long id,
+            String title,
+            String content,
+            String imageUrl,
+            String imageStatus, // READY | PENDING | FAILED (예전 캐시 값은 null -> READY 로 취급)
+            String category,
+            Integer rating,
+            Long authorId,
+            String authorName,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            List<String> tags,
+            long likeCount
+    ) {
+        /**
+         * 태그/작성자를 함께 조회한 게시물(PostService.findById)에서 생성
+         */
+        public static DetailView from(Post post) {
+            return new DetailView(
+                    post.getId(),
+                    post.getTitle(),
+                    post.getContent(),
+                    post.getImageUrl(),
+                    post.getImageStatus().name(),
+                    post.getCategory(),
+                    post.getRating(),
+                    post.getAuthor().getId(),
+                    post.getAuthor().getUsername(),
+                    post.getCreatedAt(),
+                    post.getUpdatedAt(),
+                    post.getPostTags().stream().map(PostTag::getTagName).toList(),
+                    post.getLikeCount()
+            );
+        }
+    }
+
+    /**
+     * 로그인 사용자 기준 게시물 상태 (좋아요/북마크/작성자 팔로우 여부)
+     */
+    public record ViewerState(boolean liked, boolean bookmarked, boolean followingAuthor) {
+        public static final ViewerState ANONYMOUS = new ViewerState(false, false, false);
     }
 }
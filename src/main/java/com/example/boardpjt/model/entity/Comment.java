@@ -3,15 +3,25 @@ package com.example.boardpjt.model.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
 @Getter
 @Setter
 //@Table(name = "MY_COMMENT")
+// 게시물별 댓글 목록(작성 순 커서 페이징) 및 개수 조회용 인덱스
+// 스레드 조회: (post_id, path) 범위 스캔 = 스레드 순서, (post_id, depth, path) = 최상위 댓글 페이지
+@Table(indexes = {
+        @Index(name = "idx_comment_post_created", columnList = "post_id, created_at, id"),
+        @Index(name = "idx_comment_post_path", columnList = "post_id, path"),
+        @Index(name = "idx_comment_post_depth_path", columnList = "post_id, depth, path")
+})
 public class Comment extends BaseEntity { // audit -> 생성, 수정일자
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -26,4 +36,49 @@ public class Comment extends BaseEntity { // audit -> 생성, 수정일자
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post; // 댓글이 달린 글
+
+    // === 답글 스레드 (materialized path) ===
+
+    // 부모 댓글 (최상위 댓글이면 null) - 부모 삭제 시 DB 에서 하위 답글까지 함께 삭제
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_comment_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Comment parent;
+
+    // 루트부터 자신까지의 id 를 고정 길이로 이어 붙인 경로 (예: 000000000042/000000000057/)
+    // 문자열 정렬 = 스레드 순서, 하위 답글 전체 = 같은 접두사를 가진 연속 구간
+    @Column(nullable = false, length = PATH_SEGMENT_LENGTH * (MAX_DEPTH + 1))
+    private String path;
+
+    // 최상위 댓글 0, 답글 1, 답글의 답글 2 ...
+    @Column(nullable = false)
+    private int depth;
+
+    // 직접 달린 답글 수 (비정규화 컬럼) - CommentRepository.addReplyCount()로 증감
+    @Column(name = "reply_count", nullable = false)
+    private long replyCount = 0L;
+
+    public static final int MAX_DEPTH = 10;
+    // path 한 구간 길이 - path 앞 PATH_SEGMENT_LENGTH 글자 = 최상위 댓글의 path (CommentRepository.findReplyPreviews)
+    public static final int PATH_SEGMENT_LENGTH = 13;
+
+    /**
+     * id 가 할당된 뒤(persist 이후) 부모 경로에 자신의 구간을 붙여 경로를 완성
+     */
+    public void completePath() {
+        String parentPath = parent == null ? "" : parent.getPath();
+        this.path = parentPath + segment(id);
+    }
+
+    static String segment(long id) {
+        return String.format("%012d/", id);
+    }
+
+    /**
+     * 이 경로의 하위 답글 구간 끝 (exclusive) - '/' 다음 문자 '0' 으로 바꾼 값
+     * path < pathEnd 이면서 path > 자신의 path 인 행이 모든 하위 답글
+     */
+    public static String subtreeEnd(String path) {
+        return path.substring(0, path.length() - 1) + "0";
+    }
 }
@@ -0,0 +1,78 @@
+package com.example.boardpjt.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 비동기 S3 작업(업로드/삭제) 기록 - FileTransferService 가 실행하고, 실패하거나 방치된 작업은 주기적으로 정리한다.
+ *
+ * - UPLOAD: 요청 스레드에서 로컬 임시 파일(spoolPath)에 저장한 업로드를 S3 로 전송
+ *           게시물 수정으로 이미지를 바꾼 경우 이전 이미지(replacedFileName)는 업로드가 반영된 뒤에 삭제
+ * - DELETE: 게시물 수정으로 더 이상 쓰지 않는 이미지(와 변형) 삭제
+ * 완료된 작업은 행을 바로 삭제하므로 테이블에는 대기/실패 작업만 남는다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "file_job", indexes = @Index(name = "idx_file_job_status_updated", columnList = "status, updated_at"))
+public class FileJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_job_seq")
+    @SequenceGenerator(name = "file_job_seq", sequenceName = "file_job_seq", allocationSize = 50)
+    private Long id;
+
+    // type, status: MySQL 방언의 기본 ENUM 컬럼 대신 VARCHAR (db/migration/008)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private Status status = Status.PENDING;
+
+    // S3 객체 키 (Post.imageUrl 과 같은 값)
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // UPLOAD 의 로컬 임시 파일 경로
+    @Column(name = "spool_path", length = 500)
+    private String spoolPath;
+
+    // UPLOAD 결과를 반영할 게시물 (게시물 저장 전에는 null) - 게시물이 삭제돼도 기록은 남도록 연관관계 없이 id 만 보관
+    @Column(name = "post_id")
+    private Long postId;
+
+    // UPLOAD 가 대체하는 이전 이미지 키 - 업로드가 게시물에 반영되면 삭제, 실패하면 게시물을 이 키로 되돌림
+    @Column(name = "replaced_file_name")
+    private String replacedFileName;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public FileJob(Type type, String fileName) {
+        this.type = type;
+        this.fileName = fileName;
+    }
+
+    public enum Type {
+        UPLOAD, DELETE
+    }
+
+    public enum Status {
+        PENDING, FAILED
+    }
+}
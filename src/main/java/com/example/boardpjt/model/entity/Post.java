@@ -3,6 +3,8 @@ package com.example.boardpjt.model.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,9 +12,12 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
+@Table(indexes = @Index(name = "idx_post_like_count", columnList = "like_count, id"))
 public class Post extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // MySQL 에는 시퀀스가 없어 post_seq 테이블로 대체됨 (pooled: 50개 단위로 미리 할당 -> INSERT 배치 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -23,10 +28,25 @@ public class Post extends BaseEntity {
 
     private String imageUrl;
 
+    // 이미지 업로드 상태 - 비동기 업로드(FileTransferService)가 끝나기 전에는 PENDING (화면에는 자리표시)
+    // MySQL 방언의 기본 ENUM 컬럼 대신 VARCHAR (db/migration/008)
+    // updatable = false: INSERT 이후에는 PostRepository 의 UPDATE 로만 변경
+    // (게시물 수정의 dirty checking UPDATE 가 작업 스레드가 바꾼 READY/FAILED 를 PENDING 으로 되돌리지 않도록)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "image_status", nullable = false, length = 16, updatable = false)
+    private ImageStatus imageStatus = ImageStatus.READY;
+
     private String category;
 
     private Integer rating;
 
+    // 좋아요 수 (비정규화 컬럼) - PostLike 추가/삭제와 같은 트랜잭션에서 원자적 UPDATE로 증감
+    // 직접 수정하지 않고 PostRepository.addLikeCount()를 통해서만 변경
+    // updatable = false: 게시물 수정의 dirty checking UPDATE 가 로드 시점의 값으로 동시 증감을 덮어쓰지 않도록 제외
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_account_id", nullable = false)
     private UserAccount author;
@@ -39,4 +59,14 @@ public class Post extends BaseEntity {
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostTag> postTags = new ArrayList<>();
+
+    public boolean isImageReady() {
+        return imageStatus == ImageStatus.READY;
+    }
+
+    public enum ImageStatus {
+        READY,   // 이미지 없음 또는 업로드 완료
+        PENDING, // 업로드 대기/진행 중
+        FAILED   // 재시도 후에도 업로드 실패
+    }
 }
@@ -1,39 +1,61 @@
 package com.example.boardpjt.model.entity;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.*;
-import java.time.LocalDateTime;
+import java.io.Serializable;
 
+/**
+ * 게시물-태그 연결 (tag_id, post_id 복합 PK)
+ * PK 가 tag_id 로 시작하므로 "태그별 게시물 id" 조회는 PK 인덱스만으로 처리되고,
+ * 게시물별 태그 조회는 idx_post_tag_post (post_id, tag_id) 를 사용한다.
+ */
 @Entity
 @Getter
-@Setter
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-@Table(name = "post_tag")
+@Table(name = "post_tag", indexes = @Index(name = "idx_post_tag_post", columnList = "post_id, tag_id"))
 public class PostTag {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @EmbeddedId
+    private Id id;
 
+    @MapsId("postId")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
 
-    @Column(nullable = false)
-    private String tagName;
-
-    @CreatedDate
-    @Column(nullable = false, updatable = false)
-    private LocalDateTime createdAt;
+    @MapsId("tagId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id")
+    private Tag tag;
 
-    public PostTag(Post post, String tagName) {
+    public PostTag(Post post, Tag tag) {
+        this.id = new Id(tag.getId(), post.getId());
         this.post = post;
-        this.tagName = tagName;
+        this.tag = tag;
+    }
+
+    public String getTagName() {
+        return tag.getName();
+    }
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Id implements Serializable {
+
+        @Column(name = "tag_id")
+        private Long tagId;
+
+        @Column(name = "post_id")
+        private Long postId;
+
+        public Id(Long tagId, Long postId) {
+            this.tagId = tagId;
+            this.postId = postId;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.example.boardpjt.model.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import jakarta.persistence.*;
+import java.util.Locale;
+
+/**
+ * 태그 사전 - 태그 이름은 정규화(normalize)된 값으로 한 번만 저장하고
+ * post_tag 는 (tag_id, post_id) 정수 키만 가진다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "tag", indexes = @Index(name = "idx_tag_usage_count", columnList = "usage_count, id"))
+public class Tag {
+
+    public static final int MAX_NAME_LENGTH = 50;
+
+    // 새 태그는 TagRepository.insertIgnore() 로 등록하므로 id 는 DB(AUTO_INCREMENT)가 부여
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = MAX_NAME_LENGTH)
+    private String name;
+
+    // 이 태그가 달린 게시물 수 (비정규화 컬럼) - post_tag 추가/삭제와 같은 트랜잭션에서 TagRepository.addUsageCount()로 증감
+    @Column(name = "usage_count", nullable = false)
+    private long usageCount = 0L;
+
+    public Tag(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 태그 이름 정규화: 앞뒤 공백과 앞쪽 '#' 제거, 소문자 변환, 최대 길이 제한
+     *
+     * @return 정규화 결과가 빈 문자열이면 null
+     */
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String name = raw.strip();
+        while (name.startsWith("#")) {
+            name = name.substring(1).strip();
+        }
+        name = name.toLowerCase(Locale.ROOT);
+        if (name.length() > MAX_NAME_LENGTH) {
+            name = name.substring(0, MAX_NAME_LENGTH);
+        }
+        return name.isEmpty() ? null : name;
+    }
+}
@@ -15,7 +15,8 @@ import java.util.Set;
 public class UserAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_account_seq")
+    @SequenceGenerator(name = "user_account_seq", sequenceName = "user_account_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -31,13 +32,24 @@ public class UserAccount {
     @JoinTable(
             name = "user_follow",
             joinColumns = @JoinColumn(name = "follower_id"),
-            inverseJoinColumns = @JoinColumn(name = "following_id")
+            inverseJoinColumns = @JoinColumn(name = "following_id"),
+            indexes = @Index(name = "idx_user_follow_following", columnList = "following_id, follower_id")
     )
     private Set<UserAccount> following = new HashSet<>();
 
     @ManyToMany(mappedBy = "following")
     private Set<UserAccount> followers = new HashSet<>();
 
+    // 팔로워/팔로잉 수 (비정규화 컬럼) - 컬렉션을 읽지 않고 개수를 조회하기 위함
+    // FollowService 의 팔로우/언팔로우에서 user_follow 변경과 같은 트랜잭션으로 증감
+    // updatable = false: 비밀번호 변경 등 다른 수정의 dirty checking UPDATE 가 동시 증감을 덮어쓰지 않도록
+    // UserAccountRepository 의 원자적 UPDATE 로만 변경
+    @Column(name = "follower_count", nullable = false, updatable = false)
+    private long followerCount = 0L;
+
+    @Column(name = "following_count", nullable = false, updatable = false)
+    private long followingCount = 0L;
+
     @OneToMany(mappedBy = "userAccount", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostLike> likes = new ArrayList<>();
 
@@ -54,13 +66,5 @@ public class UserAccount {
         target.followers.remove(this);
     }
 
-    public int getFollowerCount() {
-        return followers.size();
-    }
-
-    public int getFollowingCount() {
-        return following.size();
-    }
-
     private String provider;
 }
@@ -4,11 +4,25 @@ import com.example.boardpjt.model.entity.Bookmark;
 import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.model.entity.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     Optional<Bookmark> findByUserAccountAndPost(UserAccount userAccount, Post post);
     List<Bookmark> findByUserAccount(UserAccount userAccount);
+
+    // 북마크한 게시물을 사용자명 기준으로 한 번에 조회 (최근 북마크 순)
+    @Query("SELECT b.post FROM Bookmark b WHERE b.userAccount.username = :username ORDER BY b.id DESC")
+    List<Post> findBookmarkedPostsByUsername(@Param("username") String username);
+
+    @Query("SELECT COUNT(b) > 0 FROM Bookmark b WHERE b.post.id = :postId AND b.userAccount.id = :userId")
+    boolean existsByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 목록/상세의 사용자별 상태: 주어진 게시물 중 북마크한 게시물 id
+    @Query("SELECT b.post.id FROM Bookmark b WHERE b.userAccount.id = :userId AND b.post.id IN :postIds")
+    List<Long> findBookmarkedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
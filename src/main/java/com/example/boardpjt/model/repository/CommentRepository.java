@@ -1,15 +1,79 @@
 package com.example.boardpjt.model.repository;
 
+import com.example.boardpjt.model.dto.CommentDTO;
 import com.example.boardpjt.model.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    // JPA Query Method
-    // 게시물에 속한 댓글을 찾는 메서드
-    List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
-    // findBy
-    // PostId -> 속한 join -> 게시물
-    // OrderBy / CreatedAt (audit, base entity) / Asc -> 오름차순정렬
+    // === 댓글 목록 (커서 페이징) ===
+    // idx_comment_post_created (post_id, created_at, id) 순서로 읽고, 작성자명은 조인으로 함께 조회
+
+    @Query("SELECT c.id AS id, c.post.id AS postId, c.content AS content, a.username AS username, c.createdAt AS createdAt " +
+            "FROM Comment c JOIN c.author a WHERE c.post.id = :postId ORDER BY c.createdAt, c.id")
+    List<CommentDTO.View> findPage(@Param("postId") Long postId, Limit limit);
+
+    @Query("SELECT c.id AS id, c.post.id AS postId, c.content AS content, a.username AS username, c.createdAt AS createdAt " +
+            "FROM Comment c JOIN c.author a WHERE c.post.id = :postId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentDTO.View> findPageAfter(@Param("postId") Long postId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Limit limit);
+
+    long countByPostId(Long postId);
+
+    // === 답글 스레드 (materialized path) ===
+    // 하위 답글 전체 = path 가 [부모 path, Comment.subtreeEnd(부모 path)) 구간에 있는 행
+    // -> idx_comment_post_path 범위 스캔 한 번으로 스레드 순서 그대로 읽음
+
+    String THREAD_SELECT = "SELECT c.id AS id, c.post.id AS postId, c.content AS content, a.username AS username, " +
+            "c.createdAt AS createdAt, c.parent.id AS parentId, c.depth AS depth, c.replyCount AS replyCount, " +
+            "c.path AS path FROM Comment c JOIN c.author a ";
+
+    // 최상위 댓글 페이지 (idx_comment_post_depth_path) - afterPath 는 직전 페이지 마지막 최상위 댓글의 path
+    @Query(THREAD_SELECT + "WHERE c.post.id = :postId AND c.depth = 0 AND c.path > :afterPath ORDER BY c.path")
+    List<CommentDTO.ThreadView> findRoots(@Param("postId") Long postId,
+                                          @Param("afterPath") String afterPath,
+                                          Limit limit);
+
+    // (fromPath, toPath) 구간의 답글 (depth >= 1) - 한 댓글의 하위 답글 페이지 (findReplies)
+    @Query(THREAD_SELECT + "WHERE c.post.id = :postId AND c.depth >= 1 " +
+            "AND c.path > :fromPath AND c.path < :toPath ORDER BY c.path")
+    List<CommentDTO.ThreadView> findRepliesBetween(@Param("postId") Long postId,
+                                                   @Param("fromPath") String fromPath,
+                                                   @Param("toPath") String toPath,
+                                                   Limit limit);
+
+    // 스레드 페이지의 답글 미리보기 - (fromPath, toPath) 구간을 한 번에 범위 스캔하고
+    // 최상위 댓글(path 첫 구간)별로 스레드 순서 앞쪽 replies 건만 남긴다.
+    // (LIMIT 하나로 자르면 앞쪽 스레드의 답글이 많을 때 뒤쪽 스레드의 미리보기가 비게 됨)
+    @Query(value = "SELECT t.id AS id, t.post_id AS postId, t.content AS content, a.username AS username, " +
+            "t.created_at AS createdAt, t.parent_comment_id AS parentId, t.depth AS depth, " +
+            "t.reply_count AS replyCount, t.path AS path " +
+            "FROM (SELECT c.*, ROW_NUMBER() OVER (PARTITION BY LEFT(c.path, " + Comment.PATH_SEGMENT_LENGTH + ") " +
+            "ORDER BY c.path) AS rn FROM comment c " +
+            "WHERE c.post_id = :postId AND c.depth >= 1 AND c.path > :fromPath AND c.path < :toPath) t " +
+            "JOIN user_account a ON a.id = t.user_account_id " +
+            "WHERE t.rn <= :replies ORDER BY t.path", nativeQuery = true)
+    List<CommentDTO.ThreadView> findReplyPreviews(@Param("postId") Long postId,
+                                                  @Param("fromPath") String fromPath,
+                                                  @Param("toPath") String toPath,
+                                                  @Param("replies") int replies);
+
+    @Query("SELECT c.path FROM Comment c WHERE c.id = :id")
+    Optional<String> findPathById(@Param("id") Long id);
+
+    // 직접 답글 수 증감 (답글 작성/삭제)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :id")
+    int addReplyCount(@Param("id") Long id, @Param("delta") long delta);
 }
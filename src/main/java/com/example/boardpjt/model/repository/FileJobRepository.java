@@ -0,0 +1,17 @@
+package com.example.boardpjt.model.repository;
+
+import com.example.boardpjt.model.entity.FileJob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileJobRepository extends JpaRepository<FileJob, Long> {
+
+    // 정리 대상: 상태별로 마지막 갱신 후 일정 시간이 지난 작업 (idx_file_job_status_updated)
+    List<FileJob> findByStatusAndUpdatedAtBeforeOrderByUpdatedAt(FileJob.Status status, LocalDateTime before, Limit limit);
+
+    // 이 이미지를 대체하는 업로드 작업이 남아 있는지 (테이블에는 대기/실패 작업만 있어 작음)
+    boolean existsByReplacedFileName(String replacedFileName);
+}
@@ -4,12 +4,21 @@ import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.model.entity.PostLike;
 import com.example.boardpjt.model.entity.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByUserAccountAndPost(UserAccount userAccount, Post post);
-    long countByPost(Post post);
     List<PostLike> findByUserAccount(UserAccount userAccount);
+
+    @Query("SELECT COUNT(pl) > 0 FROM PostLike pl WHERE pl.post.id = :postId AND pl.userAccount.id = :userId")
+    boolean existsByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 목록/상세의 사용자별 상태: 주어진 게시물 중 좋아요한 게시물 id
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.userAccount.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
@@ -1,66 +1,80 @@
 package com.example.boardpjt.model.repository;
 
 import com.example.boardpjt.model.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
 
-    Page<Post> findByTitleContainingOrContentContaining(
-            String title, String content, Pageable pageable);
+    // 태그/카테고리/키워드/정렬 조합 검색은 PostSpecification + JpaSpecificationExecutor.findAll(spec, pageable) 사용
 
-    Page<Post> findByTitleContainingOrContentContainingOrderByIdDesc(
-            String title, String content, Pageable pageable);
+    // 게시물별 작성자 id -> [postId, authorId] (사용자별 상태의 팔로우 여부 판정용)
+    @Query("SELECT p.id, p.author.id FROM Post p WHERE p.id IN :ids")
+    List<Object[]> findAuthorIdsByIds(@Param("ids") Collection<Long> ids);
 
-    Page<Post> findByAuthor_UsernameOrderByIdDesc(String username, Pageable pageable);
-
-    Page<Post> findByAuthor_UsernameContaining(String username, Pageable pageable);
-
-    Page<Post> findByAuthor_UsernameContainingOrderByIdDesc(String username, Pageable pageable);
-
-    Page<Post> findByCategoryAndTitleContainingOrCategoryAndContentContaining(
-            String category1, String title, String category2, String content, Pageable pageable);
-
-    Page<Post> findByCategoryAndTitleContainingOrCategoryAndContentContainingOrderByIdDesc(
-            String category1, String title, String category2, String content, Pageable pageable);
-
-    Page<Post> findByCategory(String category, Pageable pageable);
+    // 검색 조건 없는 목록: WHERE 없이 PK 역순 스캔, count 쿼리 없음 (Slice)
+    Slice<Post> findSliceBy(Pageable pageable);
 
-    Page<Post> findByCategoryOrderByIdDesc(String category, Pageable pageable);
-
-    Page<Post> findByCategoryAndAuthor_UsernameContaining(String category, String username, Pageable pageable);
-
-    Page<Post> findByCategoryAndAuthor_UsernameContainingOrderByIdDesc(String category, String username, Pageable pageable);
-
-    Page<Post> findByIdIn(List<Long> ids, Pageable pageable);
+    Page<Post> findByAuthor_UsernameOrderByIdDesc(String username, Pageable pageable);
 
-    // 인기순 정렬 (좋아요 수)
-    @Query("SELECT p FROM Post p LEFT JOIN p.likes pl GROUP BY p ORDER BY COUNT(pl) DESC, p.id DESC")
-    Page<Post> findAllOrderByLikeCount(Pageable pageable);
+    // 역색인 검색 후보 중 DB 에 있는 게시물 id 를 정렬해서 조회 (인기순/별점순, 후보 수는 PostService 에서 제한)
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids, Sort sort);
 
-    @Query("SELECT p FROM Post p LEFT JOIN p.likes pl WHERE p.author.username LIKE %:username% GROUP BY p ORDER BY COUNT(pl) DESC, p.id DESC")
-    Page<Post> findByAuthor_UsernameContainingOrderByLikeCount(@Param("username") String username, Pageable pageable);
+    // id 순 키셋 페이지 (검색 인덱스 초기 색인용) - OFFSET 없이 PK 범위 스캔
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 
-    @Query("SELECT p FROM Post p LEFT JOIN p.likes pl WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword% GROUP BY p ORDER BY COUNT(pl) DESC, p.id DESC")
-    Page<Post> findByTitleContainingOrContentContainingOrderByLikeCount(@Param("keyword") String keyword1, @Param("keyword") String keyword2, Pageable pageable);
+    // 목록 페이지용: 여러 게시물의 작성자명을 한 번에 조회 -> [postId, username]
+    @Query("SELECT p.id, a.username FROM Post p JOIN p.author a WHERE p.id IN :ids")
+    List<Object[]> findAuthorNamesByIds(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT p FROM Post p LEFT JOIN p.likes pl WHERE p.category = :category GROUP BY p ORDER BY COUNT(pl) DESC, p.id DESC")
-    Page<Post> findByCategoryOrderByLikeCount(@Param("category") String category, Pageable pageable);
+    // 좋아요 수 원자적 증감: UPDATE post SET like_count = like_count + :delta WHERE id = :id
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :id")
+    int addLikeCount(@Param("id") Long id, @Param("delta") long delta);
 
-    @Query("SELECT p FROM Post p LEFT JOIN p.likes pl WHERE p.category = :category AND p.author.username LIKE %:username% GROUP BY p ORDER BY COUNT(pl) DESC, p.id DESC")
-    Page<Post> findByCategoryAndAuthor_UsernameContainingOrderByLikeCount(@Param("category") String category, @Param("username") String username, Pageable pageable);
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id")
+    long findLikeCountById(@Param("id") Long id);
 
-    @Query("SELECT p FROM Post p LEFT JOIN p.likes pl WHERE p.category = :category AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) GROUP BY p ORDER BY COUNT(pl) DESC, p.id DESC")
-    Page<Post> findByCategoryAndTitleContainingOrCategoryAndContentContainingOrderByLikeCount(
-            @Param("category") String category1, @Param("keyword") String keyword1,
-            @Param("category") String category2, @Param("keyword") String keyword2, Pageable pageable);
+    // 회원 탈퇴/삭제 시 해당 회원이 누른 좋아요만큼 게시물 좋아요 수 차감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id IN (SELECT pl.post.id FROM PostLike pl WHERE pl.userAccount.id = :userId)")
+    int decrementLikeCountsLikedBy(@Param("userId") Long userId);
 
-    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.postTags LEFT JOIN FETCH p.author WHERE p.id = :id")
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.postTags pt LEFT JOIN FETCH pt.tag LEFT JOIN FETCH p.author WHERE p.id = :id")
     Optional<Post> findByIdWithTags(@Param("id") Long id);
+
+    // 비동기 이미지 업로드 결과 반영 - 그 사이 게시물의 이미지가 바뀌었으면(수정/삭제) 0건
+    @Modifying
+    @Query("UPDATE Post p SET p.imageStatus = :status WHERE p.id = :id AND p.imageUrl = :imageUrl")
+    int updateImageStatus(@Param("id") Long id, @Param("imageUrl") String imageUrl,
+                          @Param("status") Post.ImageStatus status);
+
+    // 교체 업로드 실패 - 게시물을 이전 이미지로 되돌림 (그 사이 이미지가 다시 바뀌었으면 0건)
+    @Modifying
+    @Query("UPDATE Post p SET p.imageUrl = :replacedImageUrl, p.imageStatus = :status " +
+            "WHERE p.id = :id AND p.imageUrl = :imageUrl")
+    int restoreImage(@Param("id") Long id, @Param("imageUrl") String imageUrl,
+                     @Param("replacedImageUrl") String replacedImageUrl, @Param("status") Post.ImageStatus status);
+
+    // 게시물 수정으로 이미지가 바뀐 경우 - 같은 트랜잭션의 imageUrl 변경을 먼저 flush
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.imageStatus = :status WHERE p.id = :id")
+    int setImageStatus(@Param("id") Long id, @Param("status") Post.ImageStatus status);
+
+    // 게시물에 연결되지 못한 업로드 작업 정리용
+    @Query("SELECT p.id FROM Post p WHERE p.imageUrl = :imageUrl")
+    List<Long> findIdsByImageUrl(@Param("imageUrl") String imageUrl);
 }
@@ -0,0 +1,150 @@
+package com.example.boardpjt.model.repository;
+
+import com.example.boardpjt.config.MySqlFullTextFunctionContributor;
+import com.example.boardpjt.model.dto.PostCursor;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.PostTag;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * 게시물 목록 검색 조건을 조합하기 위한 Specification 모음
+ * 태그, 카테고리, 키워드(제목/내용 또는 작성자) 조건을 각각의 Specification으로 만들고
+ * Specification.allOf()로 묶어 하나의 페이징 쿼리(+ count 쿼리)로 실행한다.
+ *
+ * 값이 비어있는 조건은 null 을 반환하여 조합 시 자동으로 무시된다.
+ * 제목/내용 키워드 검색은 FULLTEXT 인덱스가 있으면 matchesFullText, 없으면 matchesKeyword(LIKE)를 사용한다.
+ */
+public final class PostSpecification {
+
+    private PostSpecification() {
+    }
+
+    /**
+     * 특정 태그가 달린 게시물만 조회
+     * EXISTS 서브쿼리를 사용하여 post_tag 조인으로 인한 중복 행이 생기지 않도록 한다.
+     * 태그 이름이 아닌 tag_id 로 비교하므로 post_tag PK (tag_id, post_id) 만으로 판정된다.
+     *
+     * @param tagId TagRepository.findIdByName() 으로 찾은 태그 id (null 이면 조건 없음)
+     */
+    public static Specification<Post> hasTag(Long tagId) {
+        if (tagId == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> sub = query.subquery(Long.class);
+            var postTag = sub.from(PostTag.class);
+            sub.select(postTag.get("id").get("postId"))
+                    .where(cb.equal(postTag.get("id").get("tagId"), tagId),
+                            cb.equal(postTag.get("id").get("postId"), root.get("id")));
+            return cb.exists(sub);
+        };
+    }
+
+    /**
+     * 결과 없음 (존재하지 않는 태그로 필터링할 때 사용)
+     */
+    public static Specification<Post> none() {
+        return (root, query, cb) -> cb.disjunction();
+    }
+
+    /**
+     * 게시물 id 목록 조건 (검색 인덱스가 찾은 게시물을 DB 정렬로 조회할 때 사용)
+     */
+    public static Specification<Post> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * 카테고리 일치 조건
+     */
+    public static Specification<Post> inCategory(String category) {
+        if (category == null || category.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    /**
+     * 키워드 검색 조건
+     * searchType 이 "author" 이면 작성자명, 그 외에는 제목 또는 내용에서 키워드를 찾는다.
+     */
+    public static Specification<Post> matchesKeyword(String keyword, String searchType) {
+        if (keyword == null || keyword.isEmpty()) {
+            return null;
+        }
+        String pattern = "%" + keyword + "%";
+        if ("author".equals(searchType)) {
+            return (root, query, cb) -> cb.like(root.get("author").get("username"), pattern);
+        }
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("title"), pattern),
+                cb.like(root.get("content"), pattern)
+        );
+    }
+
+    /**
+     * FULLTEXT(ngram) 검색 조건: MATCH(title, content) AGAINST(:query IN BOOLEAN MODE) > 0
+     * booleanQuery 는 FullTextSearchSupport.toBooleanQuery() 로 정리된 검색어
+     */
+    public static Specification<Post> matchesFullText(String booleanQuery) {
+        return (root, query, cb) -> cb.greaterThan(relevance(root, cb, booleanQuery), 0.0);
+    }
+
+    /**
+     * 관련도순 정렬 (FULLTEXT 점수 내림차순, 동점이면 최신순)
+     * count 쿼리에서는 정렬이 필요 없으므로 결과 타입이 Long 이면 건너뛴다.
+     */
+    public static Specification<Post> orderByRelevance(String booleanQuery) {
+        return (root, query, cb) -> {
+            if (Long.class != query.getResultType() && long.class != query.getResultType()) {
+                query.orderBy(cb.desc(relevance(root, cb, booleanQuery)), cb.desc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    /**
+     * 커서(keyset) 페이징: (정렬 키, id) 내림차순 정렬 + 커서 이후 행만 조회
+     * OFFSET 없이 인덱스를 따라 바로 다음 위치부터 읽는다.
+     *
+     * @param sort  latest / rating / popular
+     * @param after 마지막으로 받은 위치 (null 이면 첫 페이지)
+     */
+    public static Specification<Post> keyset(String sort, PostCursor after) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            Expression<? extends Number> key = switch (sort) {
+                // 별점이 없는 게시물은 0 으로 보고 정렬 (NULL 비교 없이 커서 조건을 만들기 위함)
+                case "rating" -> cb.coalesce(root.<Integer>get("rating"), 0);
+                case "popular" -> root.<Long>get("likeCount");
+                default -> null;
+            };
+
+            if (key == null) {
+                query.orderBy(cb.desc(id));
+                return after == null ? null : cb.lessThan(id, after.id());
+            }
+
+            query.orderBy(cb.desc(key), cb.desc(id));
+            if (after == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.lt(key, after.key()),
+                    cb.and(cb.equal(key, after.key()), cb.lessThan(id, after.id()))
+            );
+        };
+    }
+
+    private static Expression<Double> relevance(Root<Post> root, CriteriaBuilder cb, String booleanQuery) {
+        return cb.function(MySqlFullTextFunctionContributor.MATCH_AGAINST, Double.class,
+                root.get("title"), root.get("content"), cb.literal(booleanQuery));
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.boardpjt.model.repository;
 
-import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.model.entity.PostTag;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface PostTagRepository extends JpaRepository<PostTag, Long> {
-    List<PostTag> findByPost(Post post);
-    List<PostTag> findByTagName(String tagName);
+public interface PostTagRepository extends JpaRepository<PostTag, PostTag.Id> {
 
-    // 제안: 가장 많이 사용된 태그를 순서대로 조회하는 쿼리 추가
-    @Query("SELECT pt.tagName FROM PostTag pt GROUP BY pt.tagName ORDER BY COUNT(pt.tagName) DESC")
-    List<String> findPopularTags(Pageable pageable);
+    // 목록 페이지용: 여러 게시물의 태그를 한 번에 조회 -> [postId, tagName]
+    @Query("SELECT pt.id.postId, t.name FROM PostTag pt JOIN pt.tag t WHERE pt.id.postId IN :postIds ORDER BY t.name")
+    List<Object[]> findTagNamesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 태그별 게시물 id (최신순) - PK (tag_id, post_id) 만 읽는 인덱스 전용 조회
+    @Query(value = "SELECT pt.id.postId FROM PostTag pt WHERE pt.id.tagId = :tagId ORDER BY pt.id.postId DESC",
+            countQuery = "SELECT COUNT(pt) FROM PostTag pt WHERE pt.id.tagId = :tagId")
+    Page<Long> findPostIdsByTagId(@Param("tagId") Long tagId, Pageable pageable);
+
+    // 인기 태그 순위표 재계산용: 태그별 사용 횟수 -> [tagName, count] (tag_id 로 집계)
+    @Query("SELECT t.name, COUNT(pt) FROM PostTag pt JOIN pt.tag t GROUP BY t.id, t.name")
+    List<Object[]> countByTagName();
 }
@@ -0,0 +1,42 @@
+package com.example.boardpjt.model.repository;
+
+import com.example.boardpjt.model.entity.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 잠금 읽기(SELECT ... FOR UPDATE) - 트랜잭션 시작 이후 다른 트랜잭션이 커밋한 행도 조회됨
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tag t WHERE t.name IN :names")
+    List<Tag> findForUpdateByNameIn(@Param("names") Collection<String> names);
+
+    // 없는 태그만 등록 - 이미 있거나 다른 트랜잭션이 먼저 등록하면 uk_tag_name 충돌을 무시 (호출한 트랜잭션은 rollback-only 가 되지 않음)
+    // 다른 트랜잭션이 같은 이름을 등록 중이면 그 트랜잭션이 끝날 때까지 대기
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tag (name, usage_count) VALUES (:name, 0)", nativeQuery = true)
+    int insertIgnore(@Param("name") String name);
+
+    @Query("SELECT t.id FROM Tag t WHERE t.name = :name")
+    Optional<Long> findIdByName(@Param("name") String name);
+
+    // 사용 횟수 증감 - post_tag 변경과 같은 트랜잭션에서 원자적 UPDATE
+    @Modifying
+    @Query("UPDATE Tag t SET t.usageCount = t.usageCount + :delta WHERE t.id IN :ids")
+    int addUsageCount(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    // 인기 태그: 비정규화된 usage_count 로 정렬 (idx_tag_usage_count 사용, GROUP BY 없음)
+    @Query("SELECT t.name FROM Tag t WHERE t.usageCount > 0 ORDER BY t.usageCount DESC, t.id")
+    List<String> findPopularNames(Pageable pageable);
+}
@@ -2,10 +2,12 @@ package com.example.boardpjt.model.repository;
 
 import com.example.boardpjt.model.entity.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +53,93 @@ public interface UserAccountRepository extends JpaRepository<UserAccount, Long>
      */
     Optional<UserAccount> findByUsername(String username);
 
+    /**
+     * 사용자명 -> id 만 조회 (엔티티 로딩 없음)
+     * 좋아요/북마크/팔로우 여부처럼 id 만 필요한 조회에서 사용
+     */
+    @Query("SELECT u.id FROM UserAccount u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    /**
+     * 팔로우 여부 (user_follow PK 조회, 0 또는 1)
+     */
+    @Query(value = "SELECT COUNT(*) FROM user_follow WHERE follower_id = :followerId AND following_id = :followingId",
+            nativeQuery = true)
+    long countFollow(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    /**
+     * 주어진 사용자들 중 followerId 가 팔로우하는 사용자 id
+     */
+    @Query(value = "SELECT following_id FROM user_follow WHERE follower_id = :followerId AND following_id IN :followingIds",
+            nativeQuery = true)
+    List<Long> findFollowingIdsAmong(@Param("followerId") Long followerId, @Param("followingIds") Collection<Long> followingIds);
+
+    // === 팔로우 (user_follow 직접 조작 - following/followers 컬렉션을 로딩하지 않음) ===
+
+    /**
+     * @return 추가된 행 수 (이미 팔로우 중이면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_follow (follower_id, following_id) VALUES (:followerId, :followingId)",
+            nativeQuery = true)
+    int insertFollow(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    /**
+     * @return 삭제된 행 수 (팔로우 중이 아니었으면 0)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_follow WHERE follower_id = :followerId AND following_id = :followingId",
+            nativeQuery = true)
+    int deleteFollow(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    @Modifying
+    @Query("UPDATE UserAccount u SET u.followerCount = u.followerCount + :delta WHERE u.id = :id")
+    int addFollowerCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserAccount u SET u.followingCount = u.followingCount + :delta WHERE u.id = :id")
+    int addFollowingCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query("SELECT u.followerCount FROM UserAccount u WHERE u.id = :id")
+    Optional<Long> findFollowerCountById(@Param("id") Long id);
+
+    @Query("SELECT u.followingCount FROM UserAccount u WHERE u.id = :id")
+    Optional<Long> findFollowingCountById(@Param("id") Long id);
+
+    /**
+     * 팔로워 id 목록 (id 오름차순, after 다음부터 limit 개) - idx_user_follow_following 사용
+     */
+    @Query(value = "SELECT follower_id FROM user_follow WHERE following_id = :userId AND follower_id > :after " +
+            "ORDER BY follower_id LIMIT :limit", nativeQuery = true)
+    List<Long> findFollowerIds(@Param("userId") Long userId, @Param("after") long after, @Param("limit") int limit);
+
+    /**
+     * 팔로잉 id 목록 (id 오름차순, after 다음부터 limit 개) - user_follow PK 사용
+     */
+    @Query(value = "SELECT following_id FROM user_follow WHERE follower_id = :userId AND following_id > :after " +
+            "ORDER BY following_id LIMIT :limit", nativeQuery = true)
+    List<Long> findFollowingIds(@Param("userId") Long userId, @Param("after") long after, @Param("limit") int limit);
+
+    // [id, username]
+    @Query("SELECT u.id, u.username FROM UserAccount u WHERE u.id IN :ids")
+    List<Object[]> findUsernamesByIds(@Param("ids") Collection<Long> ids);
+
+    // 회원 삭제 전: 이 사용자가 팔로우하던 사용자들의 팔로워 수 차감
+    @Modifying
+    @Query(value = "UPDATE user_account SET follower_count = follower_count - 1 " +
+            "WHERE id IN (SELECT following_id FROM user_follow WHERE follower_id = :userId)", nativeQuery = true)
+    int decrementFollowerCountsFollowedBy(@Param("userId") Long userId);
+
+    // 회원 삭제 전: 이 사용자를 팔로우하던 사용자들의 팔로잉 수 차감
+    @Modifying
+    @Query(value = "UPDATE user_account SET following_count = following_count - 1 " +
+            "WHERE id IN (SELECT follower_id FROM user_follow WHERE following_id = :userId)", nativeQuery = true)
+    int decrementFollowingCountsFollowing(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_follow WHERE follower_id = :userId OR following_id = :userId", nativeQuery = true)
+    int deleteFollowsOf(@Param("userId") Long userId);
+
     // === Spring Data JPA Query Method 작동 원리 ===
     // 메서드명 패턴: find + By + 엔티티필드명
     // - "findBy": 조회 작업임을 나타냄
@@ -0,0 +1,194 @@
+package com.example.boardpjt.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 필터에서 사용할 인증 정보(Authentication)를 만드는 서비스
+ *
+ * 동작 방식 (board.auth.stateless):
+ * - false (기본값): DB 에서 사용자 정보를 조회하되, TTL 이 있는 principal 캐시를 거쳐 요청마다 조회하지 않도록 함
+ * - true: 서명 검증이 끝난 토큰의 subject/role 클레임만으로 인증 정보를 생성 (DB 조회 없음, 요청마다 Redis 확인 1회)
+ *
+ * 비밀번호 변경, 회원 탈퇴, 관리자 삭제 시 UserAccountService 가 invalidate() 를 호출한다.
+ * - 캐시에서 해당 사용자를 제거 (이 인스턴스만 - 다른 인스턴스는 principal-cache.ttl 동안 옛 정보 사용 가능)
+ * - stateless 모드에서는 해당 사용자를 Access Token 만료 시간 동안 DB 확인 대상으로 표시
+ *   표시는 Redis(auth:invalidated:{username})에 두어 모든 인스턴스가 공유한다.
+ *   Redis 오류로 표시를 확인할 수 없으면 DB 에서 확인한다 (삭제된 사용자가 남은 토큰으로 인증되지 않도록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthPrincipalService {
+
+    private static final String INVALIDATED_KEY = "auth:invalidated:";
+
+    private final CustomUserDetailsService userDetailsService;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${board.auth.stateless:false}")
+    private boolean stateless;
+
+    @Value("${board.auth.principal-cache.ttl:5m}")
+    private Duration ttl;
+
+    @Value("${board.auth.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    // 무효화된 사용자의 기존 Access Token 이 만료될 때까지 DB 확인을 강제
+    @Value("${jwt.expiry.access}")
+    private long accessExpiry;
+
+    // 접근 순서 LinkedHashMap: 가장 오래 사용되지 않은 사용자부터 제거 (LRU)
+    private final Map<String, CachedPrincipal> principals = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    // stateless 모드에서 DB 확인이 필요한 사용자 (username -> 만료 시각)
+    // 이 인스턴스에서 무효화한 사용자는 Redis 를 거치지 않고 바로 확인
+    private final Map<String, Long> invalidated = new LinkedHashMap<>();
+
+    /**
+     * 토큰 클레임으로 인증 정보 생성
+     *
+     * @param username 토큰 subject
+     * @param role     토큰 role 클레임 ("ROLE_USER" 또는 "[ROLE_USER, ...]" 형식)
+     * @return 인증 정보 (사용자가 존재하지 않으면 UsernameNotFoundException)
+     */
+    public Authentication authenticate(String username, String role) {
+        UserDetails principal;
+        if (stateless && !isInvalidated(username)) {
+            principal = User.withUsername(username)
+                    .password("")
+                    .authorities(parseAuthorities(role))
+                    .build();
+        } else {
+            principal = loadPrincipal(username);
+        }
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    /**
+     * DB 기반 사용자 정보 조회 (TTL 캐시 사용)
+     */
+    public UserDetails loadPrincipal(String username) {
+        long now = System.currentTimeMillis();
+        synchronized (principals) {
+            CachedPrincipal cached = principals.get(username);
+            if (cached != null && cached.expiresAt() > now) {
+                return cached.principal();
+            }
+        }
+
+        UserDetails loaded = userDetailsService.loadUserByUsername(username);
+        // 캐시에는 비밀번호 해시를 보관하지 않음
+        UserDetails principal = User.withUsername(loaded.getUsername())
+                .password("")
+                .authorities(loaded.getAuthorities())
+                .build();
+
+        synchronized (principals) {
+            principals.put(username, new CachedPrincipal(principal, now + ttl.toMillis()));
+        }
+        return principal;
+    }
+
+    /**
+     * 사용자 정보 변경(비밀번호 변경, 탈퇴, 삭제) 시 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋 후에 한 번 더 제거하여
+     * 커밋 전 다른 요청이 옛 정보를 다시 캐시에 넣는 경우를 막는다.
+     */
+    public void invalidate(String username) {
+        evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        }
+        log.debug("principal 캐시 무효화: {}", username);
+    }
+
+    private void evict(String username) {
+        synchronized (principals) {
+            principals.remove(username);
+        }
+        if (stateless) {
+            synchronized (invalidated) {
+                invalidated.put(username, System.currentTimeMillis() + accessExpiry);
+            }
+            try {
+                redisTemplate.opsForValue().set(INVALIDATED_KEY + username, "1", Duration.ofMillis(accessExpiry));
+            } catch (DataAccessException e) {
+                log.error("사용자 무효화 공유 실패 - 다른 인스턴스는 Access Token 만료까지 토큰 클레임으로 인증: {}", username, e);
+            }
+        }
+    }
+
+    private boolean isInvalidated(String username) {
+        synchronized (invalidated) {
+            if (!invalidated.isEmpty()) {
+                long now = System.currentTimeMillis();
+                invalidated.values().removeIf(expiresAt -> expiresAt <= now);
+                if (invalidated.containsKey(username)) {
+                    return true;
+                }
+            }
+        }
+        // 다른 인스턴스에서 무효화한 사용자
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(INVALIDATED_KEY + username));
+        } catch (DataAccessException e) {
+            log.warn("사용자 무효화 여부 확인 실패 - DB 에서 확인: {}", username, e);
+            return true;
+        }
+    }
+
+    /**
+     * role 클레임을 권한 목록으로 변환
+     * 폼 로그인은 authorities.toString() ("[ROLE_USER]"), 소셜 로그인은 "ROLE_USER" 형식으로 저장됨
+     */
+    static List<GrantedAuthority> parseAuthorities(String role) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (role == null) {
+            return authorities;
+        }
+        String trimmed = role.trim();
+        if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+            trimmed = trimmed.substring(1, trimmed.length() - 1);
+        }
+        for (String authority : trimmed.split(",")) {
+            String name = authority.trim();
+            if (!name.isEmpty()) {
+                authorities.add(new SimpleGrantedAuthority(name));
+            }
+        }
+        return authorities;
+    }
+
+    private record CachedPrincipal(UserDetails principal, long expiresAt) {
+    }
+}
@@ -20,6 +20,7 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserAccountRepository userAccountRepository;
     private final PostRepository postRepository;
+    private final PostDetailCache postDetailCache;
 
     @Transactional
     public void toggleBookmark(Long postId, String username) {
@@ -35,29 +36,19 @@ public class BookmarkService {
         } else {
             bookmarkRepository.save(new Bookmark(userAccount, post));
         }
+        postDetailCache.evictBookmark(username, postId);
     }
 
     @Transactional(readOnly = true)
-    public List<Bookmark> findMyBookmarks(String username) {
-        UserAccount userAccount = userAccountRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        return bookmarkRepository.findByUserAccount(userAccount);
+    public List<Post> findMyBookmarkedPosts(String username) {
+        return bookmarkRepository.findBookmarkedPostsByUsername(username);
     }
 
     @Transactional(readOnly = true)
     public boolean isBookmarked(Long postId, String username) {
         // 사용자가 존재하지 않을 경우 false를 반환하여 예외를 방지
-        Optional<UserAccount> userAccountOpt = userAccountRepository.findByUsername(username);
-        if (userAccountOpt.isEmpty()) {
-            return false;
-        }
-        
-        // 게시물이 존재하지 않을 경우 false를 반환
-        Optional<Post> postOpt = postRepository.findById(postId);
-        if (postOpt.isEmpty()) {
-            return false;
-        }
-
-        return bookmarkRepository.findByUserAccountAndPost(userAccountOpt.get(), postOpt.get()).isPresent();
+        return userAccountRepository.findIdByUsername(username)
+                .map(userId -> bookmarkRepository.existsByPostIdAndUserId(postId, userId))
+                .orElse(false);
     }
 }
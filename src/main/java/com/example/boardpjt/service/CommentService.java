@@ -1,5 +1,6 @@
 package com.example.boardpjt.service;
 
+import com.example.boardpjt.model.dto.CommentCursor;
 import com.example.boardpjt.model.dto.CommentDTO;
 import com.example.boardpjt.model.entity.Comment;
 import com.example.boardpjt.model.entity.Post;
@@ -7,10 +8,13 @@ import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.model.repository.CommentRepository;
 import com.example.boardpjt.model.repository.PostRepository;
 import com.example.boardpjt.model.repository.UserAccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service // 스캔
@@ -20,9 +24,14 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserAccountRepository userAccountRepository;
     private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public Comment addComment(CommentDTO.Request dto) {
+        return meterRegistry.timer("board.comment.add").record(() -> doAddComment(dto));
+    }
+
+    private Comment doAddComment(CommentDTO.Request dto) {
         // Controller -> authentication 인증 username. dto username?
         // Service -> username? 존재하는 유저인한건지... postId 존재하는 게시물인지?
         UserAccount user = userAccountRepository.findByUsername(dto.username())
@@ -33,18 +42,126 @@ public class CommentService {
         comment.setAuthor(user);
         comment.setPost(post);
         comment.setContent(dto.content());
-        // id 자동생성
-        return commentRepository.save(comment); // RESTful.
+        if (dto.parentId() != null) {
+            Comment parent = commentRepository.findById(dto.parentId())
+                    .orElseThrow(() -> new IllegalArgumentException("부모 댓글 없음"));
+            if (!parent.getPost().getId().equals(post.getId())) {
+                throw new IllegalArgumentException("다른 게시물의 댓글");
+            }
+            if (parent.getDepth() >= Comment.MAX_DEPTH) {
+                throw new IllegalArgumentException("답글 깊이 초과");
+            }
+            comment.setParent(parent);
+            comment.setDepth(parent.getDepth() + 1);
+        }
+        // id 자동생성 - 시퀀스(pooled)라 persist 시점에 id 가 정해지므로 그 뒤에 경로를 완성
+        // (INSERT 는 임시 경로로, 완성된 경로는 flush 시 UPDATE 한 번으로 반영 - 둘 다 JDBC 배치 대상)
+        comment.setPath(comment.getParent() == null ? "" : comment.getParent().getPath());
+        Comment saved = commentRepository.save(comment); // RESTful.
+        saved.completePath();
+        if (saved.getParent() != null) {
+            commentRepository.addReplyCount(saved.getParent().getId(), 1);
+        }
+        return saved;
+    }
+
+    /**
+     * 댓글 커서 페이징 - limit + 1 건을 읽어 다음 페이지 존재 여부를 판단
+     *
+     * @param after 마지막으로 받은 위치 (null 이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CommentDTO.PageResponse findPage(Long postId, CommentCursor after, int limit) {
+        List<CommentDTO.View> rows = after == null
+                ? commentRepository.findPage(postId, Limit.of(limit + 1))
+                : commentRepository.findPageAfter(postId, after.createdAt(), after.id(), Limit.of(limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<CommentDTO.View> content = hasNext ? rows.subList(0, limit) : rows;
+        return new CommentDTO.PageResponse(
+                content.stream().map(CommentDTO.Response::from).toList(),
+                hasNext ? CommentCursor.after(content.get(content.size() - 1)).encode() : null,
+                hasNext);
+    }
+
+    /**
+     * 스레드 페이지 - 최상위 댓글 limit 건과 각 댓글의 답글 미리보기(스레드 순서 앞쪽 replies 건)
+     * 미리보기는 답글이 있는 첫 최상위 댓글부터 마지막 최상위 댓글의 하위 구간 끝까지 한 번에 범위 스캔하고,
+     * 스레드별 개수 제한은 쿼리 안에서 처리한다 (CommentRepository.findReplyPreviews) - 페이지당 쿼리 2개.
+     * 미리보기보다 답글이 많은 스레드는 replyCount 를 보고 findReplies() 로 이어서 조회한다.
+     *
+     * @param afterRootId 직전 페이지의 마지막 최상위 댓글 id (null 이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CommentDTO.ThreadPage findThreads(Long postId, Long afterRootId, int limit, int replies) {
+        String afterPath = afterRootId == null ? "" : findPath(afterRootId);
+        List<CommentDTO.ThreadView> roots = commentRepository.findRoots(postId, afterPath, Limit.of(limit + 1));
+        boolean hasNext = roots.size() > limit;
+        if (hasNext) {
+            roots = roots.subList(0, limit);
+        }
+
+        // 답글이 없는 댓글만 있으면 조회하지 않음
+        List<CommentDTO.ThreadView> withReplies = roots.stream().filter(root -> root.getReplyCount() > 0).toList();
+        List<CommentDTO.ThreadView> previews = replies <= 0 || withReplies.isEmpty()
+                ? List.of()
+                : commentRepository.findReplyPreviews(postId, withReplies.get(0).getPath(),
+                Comment.subtreeEnd(withReplies.get(withReplies.size() - 1).getPath()), replies);
+
+        // 최상위 댓글과 미리보기 모두 path 순서 -> 각 최상위 댓글 뒤에 자기 path 로 시작하는 답글을 이어 붙임
+        List<CommentDTO.Node> content = new ArrayList<>(roots.size() + previews.size());
+        int next = 0;
+        for (CommentDTO.ThreadView root : roots) {
+            content.add(CommentDTO.Node.from(root));
+            while (next < previews.size() && previews.get(next).getPath().startsWith(root.getPath())) {
+                content.add(CommentDTO.Node.from(previews.get(next++)));
+            }
+        }
+        return new CommentDTO.ThreadPage(content,
+                hasNext ? roots.get(roots.size() - 1).getId() : null, hasNext);
+    }
+
+    /**
+     * 한 댓글의 하위 답글 전체를 스레드 순서로 커서 페이징 (path 범위 스캔)
+     *
+     * @param afterId 직전 페이지의 마지막 답글 id (null 이면 처음부터)
+     */
+    @Transactional(readOnly = true)
+    public CommentDTO.ThreadPage findReplies(Long commentId, Long afterId, int limit) {
+        Comment comment = findById(commentId);
+        String afterPath = afterId == null ? comment.getPath() : findPath(afterId);
+        if (!afterPath.startsWith(comment.getPath())) {
+            throw new IllegalArgumentException("잘못된 커서");
+        }
+        List<CommentDTO.ThreadView> rows = commentRepository.findRepliesBetween(comment.getPost().getId(),
+                afterPath, Comment.subtreeEnd(comment.getPath()), Limit.of(limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<CommentDTO.ThreadView> content = hasNext ? rows.subList(0, limit) : rows;
+        return new CommentDTO.ThreadPage(
+                content.stream().map(CommentDTO.Node::from).toList(),
+                hasNext ? content.get(content.size() - 1).getId() : null,
+                hasNext);
+    }
+
+    private String findPath(Long id) {
+        return commentRepository.findPathById(id).orElseThrow(() -> new IllegalArgumentException("댓글 없음"));
     }
 
     @Transactional(readOnly = true)
-    public List<Comment> findByPostId(Long postId) {
-        return commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
+    public long countByPostId(Long postId) {
+        return commentRepository.countByPostId(postId);
     }
 
+    /**
+     * 댓글 삭제 - 하위 답글은 parent_comment_id FK 의 ON DELETE CASCADE 로 DB 에서 함께 삭제
+     */
     @Transactional
     public void deleteById(Long id) {
-        commentRepository.deleteById(id);
+        Comment comment = findById(id);
+        if (comment.getParent() != null) {
+            commentRepository.addReplyCount(comment.getParent().getId(), -1);
+        }
+        commentRepository.delete(comment);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,275 @@
+package com.example.boardpjt.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * /files/{filename} 용 로컬 디스크 캐시 (S3 앞단)
+ *
+ * - 파일명은 업로드 시 만든 UUID 키라 내용이 바뀌지 않음 -> 재검증 없이 용량 초과 시 LRU 제거만 수행
+ * - 같은 키의 동시 미스는 원본 다운로드 한 번으로 합침 (기다리는 요청은 load-timeout 까지만 대기)
+ * - 응답 중인 파일은 제거 대상이 되어도 마지막 사용자가 닫을 때 삭제 (Hit#close)
+ * - 메타데이터는 메모리에만 두므로, 시작 시 캐시 디렉터리를 비운다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDiskCache {
+
+    private final FileOrigin origin;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${board.file.disk-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.file.disk-cache.dir:${java.io.tmpdir}/boardpjt-file-cache}")
+    private Path dir;
+
+    @Value("${board.file.disk-cache.max-size:1GB}")
+    private DataSize maxSize;
+
+    // 다른 요청이 받는 중인 키를 기다리는 최대 시간 (S3FileOrigin 의 다운로드 제한 시간과 같은 값)
+    @Value("${board.file.disk-cache.load-timeout:30s}")
+    private Duration loadTimeout;
+
+    // 접근 순서(access-order) LinkedHashMap - 첫 항목이 가장 오래 안 쓴 항목. this 로 동기화
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    // 다운로드 중인 키 -> 완료 신호 (동시 미스 합치기)
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(dir);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 파일을 열어 반환 (없으면 원본에서 받아 채움). 사용 후 반드시 close
+     *
+     * @throws java.nio.file.NoSuchFileException 원본에 없는 키
+     * @throws LoadTimeoutException 다른 요청이 받는 중인 키를 load-timeout 안에 받지 못함
+     */
+    public Hit open(String key) throws IOException {
+        while (true) {
+            Hit hit = lookup(key);
+            if (hit != null) {
+                meterRegistry.counter("board.file.cache", "result", "hit").increment();
+                return hit;
+            }
+
+            CompletableFuture<Void> loading = new CompletableFuture<>();
+            CompletableFuture<Void> existing = inFlight.putIfAbsent(key, loading);
+            if (existing != null) {
+                // 다른 요청이 받는 중 - 끝나면 다시 조회
+                await(key, existing);
+                continue;
+            }
+
+            meterRegistry.counter("board.file.cache", "result", "miss").increment();
+            try {
+                Hit loaded = load(key);
+                loading.complete(null);
+                return loaded;
+            } catch (IOException | RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, loading);
+            }
+        }
+    }
+
+    private synchronized Hit lookup(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? null : retain(entry);
+    }
+
+    private Hit load(String key) throws IOException {
+        // 다운로드마다 고유 파일명 - 같은 키를 다시 받아도 응답 중인 이전 파일을 덮어쓰지 않음
+        Path file = dir.resolve(DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8))
+                + "-" + UUID.randomUUID());
+        FileOrigin.Metadata metadata;
+        try {
+            metadata = origin.download(key, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        Entry entry = new Entry(file, Files.size(file), metadata);
+
+        synchronized (this) {
+            if (entry.size > maxSize.toBytes()) {
+                // 캐시 용량보다 큰 파일은 이번 응답에만 쓰고 삭제
+                entry.evicted = true;
+                return retain(entry);
+            }
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                remove(previous);
+            }
+            totalBytes += entry.size;
+            Hit hit = retain(entry);
+            evictOverflow();
+            return hit;
+        }
+    }
+
+    // 호출자는 this 를 잡고 있어야 함
+    private void evictOverflow() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxSize.toBytes() && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            remove(entry);
+        }
+    }
+
+    private void remove(Entry entry) {
+        totalBytes -= entry.size;
+        entry.evicted = true;
+        if (entry.readers == 0) {
+            delete(entry);
+        }
+    }
+
+    private Hit retain(Entry entry) {
+        entry.readers++;
+        return new Hit(entry);
+    }
+
+    private synchronized void release(Entry entry) {
+        entry.readers--;
+        if (entry.evicted && entry.readers == 0) {
+            delete(entry);
+        }
+    }
+
+    private void delete(Entry entry) {
+        try {
+            Files.deleteIfExists(entry.path);
+        } catch (IOException e) {
+            log.warn("파일 캐시 삭제 실패: {}", entry.path, e);
+        }
+    }
+
+    private void await(String key, CompletableFuture<Void> loading) throws IOException {
+        try {
+            loading.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new LoadTimeoutException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("파일 캐시 대기 중 인터럽트: " + key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * 같은 키를 받는 다른 요청이 제한 시간 안에 끝나지 않음 (원본이 느리거나 응답 없음)
+     */
+    public static class LoadTimeoutException extends IOException {
+        public LoadTimeoutException(String key) {
+            super("파일 캐시 대기 시간 초과: " + key);
+        }
+    }
+
+    private static final class Entry {
+        private final Path path;
+        private final long size;
+        private final FileOrigin.Metadata metadata;
+        // 아래 두 필드는 FileDiskCache 로 동기화
+        private int readers;
+        private boolean evicted;
+
+        private Entry(Path path, long size, FileOrigin.Metadata metadata) {
+            this.path = path;
+            this.size = size;
+            this.metadata = metadata;
+        }
+    }
+
+    /**
+     * 사용 중인 캐시 파일 - 닫기 전까지 LRU 제거로 파일이 삭제되지 않는다
+     */
+    public final class Hit implements Closeable {
+        private final Entry entry;
+        private boolean closed;
+
+        private Hit(Entry entry) {
+            this.entry = entry;
+        }
+
+        public Path path() {
+            return entry.path;
+        }
+
+        public long size() {
+            return entry.size;
+        }
+
+        public String contentType() {
+            return entry.metadata.contentType();
+        }
+
+        public String eTag() {
+            return entry.metadata.eTag();
+        }
+
+        public Instant lastModified() {
+            return entry.metadata.lastModified();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+}
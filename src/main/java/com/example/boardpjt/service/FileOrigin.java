@@ -0,0 +1,24 @@
+package com.example.boardpjt.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * FileDiskCache 가 캐시 미스 시 원본 파일을 받아오는 곳 (운영: S3FileOrigin)
+ * 로컬 디렉터리를 읽는 구현으로 바꾸면 S3 없이 캐시를 시험할 수 있다.
+ */
+public interface FileOrigin {
+
+    /**
+     * key 의 원본을 target 경로(아직 없는 파일)에 저장
+     *
+     * @throws java.nio.file.NoSuchFileException 원본에 key 가 없음
+     */
+    Metadata download(String key, Path target) throws IOException;
+
+    /**
+     * 응답 헤더에 그대로 쓰는 원본 메타데이터
+     */
+    record Metadata(String contentType, String eTag, Instant lastModified) {}
+}
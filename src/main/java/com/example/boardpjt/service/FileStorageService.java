@@ -1,20 +1,39 @@
 package com.example.boardpjt.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -22,6 +41,8 @@ import java.util.UUID;
 public class FileStorageService {
 
     private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
+    private final ImageResizer imageResizer;
 
     @Value("${spring.cloud.aws.region.static}")
     private String region;
@@ -34,32 +55,149 @@ public class FileStorageService {
             "image/jpeg", "image/png", "image/gif", "image/bmp", "image/webp"
     );
 
-    public String uploadFile(MultipartFile file) throws IOException {
-        if (file == null || file.isEmpty()) {
-            return null;
-        }
+    // 변형을 만든 원본의 키 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg", "image/png", "png", "image/gif", "gif", "image/bmp", "bmp", "image/webp", "webp"
+    );
+
+    private static final List<ImageVariant> RESIZED_VARIANTS = List.of(ImageVariant.THUMB, ImageVariant.MEDIUM);
+
+    // 이 크기 이상인 원본은 멀티파트 업로드 (S3 파트 최소 크기 5MB)
+    // 현재 업로드 한도(spring.servlet.multipart.max-file-size 5MB)에서는 도달하지 않아 모든 원본이 단일 PUT 으로 전송됨
+    // - 한도를 threshold 이상으로 올릴 때만 동작
+    @Value("${board.file.upload.multipart-threshold:8MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${board.file.upload.multipart-part-size:8MB}")
+    private DataSize multipartPartSize;
 
+    private static final Pattern VARIANT_SOURCE_KEY = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}\\.[a-z]+");
+
+    /**
+     * 업로드 파일 검증 (요청 스레드에서 임시 저장 전에 호출)
+     */
+    public void validate(MultipartFile file) {
         // 파일 타입 검증
         if (!isImageFile(file)) {
             throw new IllegalArgumentException("이미지 파일 형식만 업로드할 수 있습니다. (jpeg, png, gif, bmp, webp)");
         }
+    }
+
+    /**
+     * 새 업로드의 S3 키 - ImageIO 로 읽을 수 있는 형식이면 변형을 만들 {uuid}.{ext},
+     * 아니면(webp 등) 원본만 저장하는 {uuid}_{원본 파일명}
+     */
+    public String newFileName(String contentType, String originalFilename) {
+        String uuid = UUID.randomUUID().toString();
+        if (ImageIO.getImageReadersByMIMEType(contentType).hasNext()) {
+            return uuid + "." + EXTENSIONS.get(contentType);
+        }
+        return uuid + "_" + originalFilename;
+    }
+
+    /**
+     * 로컬 파일을 S3 에 저장 (FileTransferService 의 작업 스레드에서 호출)
+     * 변형 대상 키이면 원본을 한 번만 디코딩하여 thumb, medium 변형도 함께 저장한다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 이미지로 디코딩할 수 없음
+     * @throws IllegalArgumentException 해상도 제한 초과 (spool 에서 이미 거절하므로 정상 흐름에서는 발생하지 않음)
+     */
+    public void store(String fileName, Path source, String contentType) throws IOException {
+        if (hasVariants(fileName)) {
+            BufferedImage image = imageResizer.decode(source, ImageVariant.MEDIUM.getMaxWidth());
+            if (image == null) {
+                throw new IOException("이미지를 읽을 수 없습니다: " + fileName);
+            }
+            for (ImageVariant variant : RESIZED_VARIANTS) {
+                putObject(variantKey(fileName, variant), "image/jpeg",
+                        imageResizer.resizeToJpeg(image, variant.getMaxWidth()));
+            }
+        }
+
+        if (Files.size(source) >= multipartThreshold.toBytes()) {
+            putMultipart(fileName, contentType, source);
+        } else {
+            putObject(fileName, contentType, RequestBody.fromFile(source));
+        }
+    }
 
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
+    private void putObject(String key, String contentType, byte[] bytes) {
+        putObject(key, contentType, RequestBody.fromBytes(bytes));
+    }
 
+    private void putObject(String key, String contentType, RequestBody body) {
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
-                .key(fileName)
-                .contentType(file.getContentType())
-                .contentLength(file.getSize())
+                .key(key)
+                .contentType(contentType)
                 .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            s3Client.putObject(putObjectRequest, body);
+            outcome = "success";
+        } finally {
+            sample.stop(s3Timer("put", outcome));
+        }
+    }
+
+    /**
+     * 큰 파일은 멀티파트 업로드 - 파트 단위로 읽어 보내므로 파일 전체를 메모리에 올리지 않음
+     * 실패 시 업로드를 취소하여 S3 에 미완성 파트가 남지 않게 한다.
+     */
+    private void putMultipart(String key, String contentType, Path source) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
 
-        return fileName;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            List<CompletedPart> parts = new ArrayList<>();
+            long size = channel.size();
+            long partSize = multipartPartSize.toBytes();
+            for (long position = 0; position < size; position += partSize) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(partSize, size - position));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                buffer.flip();
+                int partNumber = parts.size() + 1;
+                UploadPartResponse uploaded = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .build(), RequestBody.fromByteBuffer(buffer));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(uploaded.eTag()).build());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            outcome = "success";
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        } finally {
+            sample.stop(s3Timer("multipart", outcome));
+        }
     }
 
     /**
      * 제안: S3에서 파일을 삭제하는 메서드를 추가합니다.
+     * 변형(thumb, medium)도 함께 삭제하며, S3 오류는 호출자(FileTransferService)가 재시도하도록 그대로 던집니다.
      * @param fileName 삭제할 파일의 이름 (S3 객체 키)
      */
     public void deleteFile(String fileName) {
@@ -68,16 +206,28 @@ public class FileStorageService {
             return;
         }
 
+        deleteObject(fileName);
+        if (hasVariants(fileName)) {
+            for (ImageVariant variant : RESIZED_VARIANTS) {
+                deleteObject(variantKey(fileName, variant));
+            }
+        }
+    }
+
+    private void deleteObject(String fileName) {
         DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
                 .bucket(bucket)
                 .key(fileName)
                 .build();
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             s3Client.deleteObject(deleteObjectRequest);
+            outcome = "success";
             log.info("S3에서 파일 삭제 성공: {}", fileName);
-        } catch (S3Exception e) {
-            log.error("S3 파일 삭제 중 오류 발생: {}", fileName, e);
+        } finally {
+            sample.stop(s3Timer("delete", outcome));
         }
     }
 
@@ -93,9 +243,24 @@ public class FileStorageService {
      * @return 파일의 전체 URL
      */
     public String getFileUrl(String fileName) {
+        return getFileUrl(fileName, ImageVariant.ORIGINAL.getName());
+    }
+
+    /**
+     * 크기별 변형의 URL - 목록 카드는 "thumb", 상세 본문은 "medium"
+     * 변형이 없는 파일(예전 업로드, ImageIO 로 읽을 수 없는 형식)은 원본 URL 을 반환합니다.
+     *
+     * @param fileName 저장된 원본 파일명 (Post.imageUrl)
+     * @param variant  "original" | "thumb" | "medium"
+     */
+    public String getFileUrl(String fileName, String variant) {
         if (fileName == null || fileName.isEmpty()) {
             return null;
         }
+        ImageVariant imageVariant = ImageVariant.from(variant);
+        if (imageVariant != ImageVariant.ORIGINAL && hasVariants(fileName)) {
+            fileName = variantKey(fileName, imageVariant);
+        }
 
         // CloudFront 도메인이 설정되어 있으면 CloudFront URL 사용
         if (cloudfrontDomain != null && !cloudfrontDomain.isEmpty()) {
@@ -107,6 +272,20 @@ public class FileStorageService {
     }
 
 
+    // {uuid}.{ext} -> {uuid}.{variant}.jpg
+    private static String variantKey(String fileName, ImageVariant variant) {
+        return fileName.substring(0, fileName.lastIndexOf('.')) + "." + variant.getName() + ".jpg";
+    }
+
+    // 변형을 함께 저장한 파일만 {uuid}.{ext} 형식 (그 외는 {uuid}_{원본 파일명})
+    private static boolean hasVariants(String fileName) {
+        return VARIANT_SOURCE_KEY.matcher(fileName).matches();
+    }
+
+    private Timer s3Timer(String operation, String outcome) {
+        return meterRegistry.timer("board.s3.request", "operation", operation, "outcome", outcome);
+    }
+
     // 이미지 파일인지 확인하는 헬퍼 메서드
     private boolean isImageFile(MultipartFile file) {
         return ALLOWED_IMAGE_CONTENT_TYPES.contains(file.getContentType());
@@ -0,0 +1,339 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.entity.FileJob;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.repository.FileJobRepository;
+import com.example.boardpjt.model.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시물 이미지의 비동기 S3 업로드/삭제
+ *
+ * - 요청 스레드: 업로드 파일을 로컬 임시 디렉터리에 저장(spool)하고 FileJob 을 기록한 뒤 바로 응답
+ * - 작업 스레드(고정 크기 풀 + 제한된 대기열): S3 전송(큰 파일은 멀티파트)과 이전 이미지 삭제를 재시도하며 실행
+ * - 업로드가 끝나면 Post.imageStatus 를 READY(실패 시 FAILED)로 바꾸고, 그 전까지 화면에는 자리표시를 보여준다
+ * - 이미지 교체: 이전 이미지는 새 이미지가 게시물에 반영된 뒤에 삭제하고, 업로드가 실패하면 게시물을 이전 이미지로 되돌린다
+ * - 정리(sweep): 대기열에서 밀려났거나 서버 재시작으로 멈춘 작업을 다시 실행하고,
+ *   게시물 저장에 실패해 버려진 업로드와 오래된 실패 작업의 임시 파일/S3 객체를 삭제
+ *
+ * 임시 파일은 로컬 디스크에 있으므로 같은 spool-dir 을 보는 단일 인스턴스 배포를 전제로 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileTransferService {
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final FileStorageService fileStorageService;
+    private final ImageResizer imageResizer;
+    private final FileJobRepository fileJobRepository;
+    private final PostRepository postRepository;
+    private final PostDetailCache postDetailCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${board.file.upload.spool-dir:${java.io.tmpdir}/boardpjt-upload-spool}")
+    private Path spoolDir;
+
+    @Value("${board.file.upload.workers:2}")
+    private int workers;
+
+    @Value("${board.file.upload.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${board.file.upload.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${board.file.upload.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    // 이 시간 동안 진행이 없는 PENDING 작업은 멈춘 것으로 보고 다시 실행
+    @Value("${board.file.upload.stale-after:10m}")
+    private Duration staleAfter;
+
+    // FAILED 작업을 보관하는 기간 (이후 임시 파일과 S3 에 남은 조각 삭제)
+    @Value("${board.file.upload.failed-retention:1d}")
+    private Duration failedRetention;
+
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(spoolDir);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기열이 가득 차면 거절 -> 작업은 PENDING 으로 남아 정리 주기에 다시 실행됨
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-transfer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    public FileJob spool(MultipartFile file) throws IOException {
+        return spool(file, null);
+    }
+
+    /**
+     * 업로드 파일을 임시 디렉터리에 저장하고 UPLOAD 작업을 기록 (S3 전송은 submitUpload 이후)
+     *
+     * @param replacedFileName 게시물 수정으로 대체되는 이전 이미지 키 (없으면 null) - 업로드가 반영된 뒤에 삭제
+     * @return 기록된 작업 - getFileName() 을 Post.imageUrl 로 사용
+     * @throws IllegalArgumentException 이미지 형식이 아니거나 해상도 제한 초과
+     */
+    public FileJob spool(MultipartFile file, String replacedFileName) throws IOException {
+        fileStorageService.validate(file);
+
+        Path spoolPath = spoolDir.resolve(UUID.randomUUID().toString());
+        file.transferTo(spoolPath);
+        try {
+            // 디코딩 없이 헤더만 확인 - 작업 스레드에서 실패하기 전에 요청에서 바로 거절
+            imageResizer.validate(spoolPath);
+        } catch (IllegalArgumentException e) {
+            Files.deleteIfExists(spoolPath);
+            throw e;
+        }
+
+        FileJob job = new FileJob(FileJob.Type.UPLOAD,
+                fileStorageService.newFileName(file.getContentType(), file.getOriginalFilename()));
+        job.setContentType(file.getContentType());
+        job.setSpoolPath(spoolPath.toString());
+        job.setReplacedFileName(replacedFileName);
+        return fileJobRepository.save(job);
+    }
+
+    /**
+     * 게시물 저장 후 호출 - 업로드 작업을 게시물에 연결하고 작업 스레드에 넘김
+     */
+    public void submitUpload(FileJob job, Long postId) {
+        job.setPostId(postId);
+        fileJobRepository.save(job);
+        submit(job.getId(), () -> runUpload(job.getId()));
+    }
+
+    /**
+     * 더 이상 쓰지 않는 이미지(와 변형)를 비동기로 삭제 - 게시물 변경이 커밋된 뒤 호출
+     */
+    public void deleteLater(String fileName) {
+        FileJob job = fileJobRepository.save(new FileJob(FileJob.Type.DELETE, fileName));
+        submit(job.getId(), () -> runDelete(job.getId()));
+    }
+
+    private void submit(Long jobId, Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("파일 작업 대기열 가득 참 - 정리 주기에 다시 실행: jobId={}", jobId);
+        }
+    }
+
+    private void runUpload(Long jobId) {
+        FileJob job = fileJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != FileJob.Status.PENDING) {
+            return;
+        }
+
+        Exception failure = retry(job, () -> fileStorageService.store(job.getFileName(),
+                Path.of(job.getSpoolPath()), job.getContentType()));
+        if (failure != null) {
+            log.error("이미지 업로드 실패: jobId={}, fileName={}", jobId, job.getFileName(), failure);
+            markUploadFailed(job, job.getLastError());
+            return;
+        }
+
+        int updated = transactionTemplate.execute(tx -> {
+            fileJobRepository.delete(job);
+            return postRepository.updateImageStatus(job.getPostId(), job.getFileName(), Post.ImageStatus.READY);
+        });
+        postDetailCache.evictView(job.getPostId());
+        deleteSpool(job);
+
+        if (updated == 1) {
+            // 새 이미지가 커밋된 뒤에만 이전 이미지 삭제
+            if (job.getReplacedFileName() != null) {
+                deleteLater(job.getReplacedFileName());
+            }
+        } else {
+            // 업로드 중에 게시물 이미지가 바뀌었거나 게시물이 삭제됨 -> 올린 객체(와 이전 이미지)는 고아
+            deleteIfOrphan(job.getFileName());
+            if (job.getReplacedFileName() != null) {
+                deleteIfOrphan(job.getReplacedFileName());
+            }
+        }
+    }
+
+    /**
+     * 게시물이 참조하지 않고, 이 이미지를 대체하는 업로드 작업도 없으면 삭제
+     * (대체 업로드가 있으면 그 작업이 성공 시 삭제하거나 실패 시 게시물을 이 이미지로 되돌림)
+     */
+    private void deleteIfOrphan(String fileName) {
+        if (postRepository.findIdsByImageUrl(fileName).isEmpty() && !fileJobRepository.existsByReplacedFileName(fileName)) {
+            deleteLater(fileName);
+        }
+    }
+
+    private void runDelete(Long jobId) {
+        FileJob job = fileJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != FileJob.Status.PENDING) {
+            return;
+        }
+
+        Exception failure = retry(job, () -> fileStorageService.deleteFile(job.getFileName()));
+        if (failure == null) {
+            fileJobRepository.delete(job);
+        } else {
+            job.setStatus(FileJob.Status.FAILED);
+            fileJobRepository.save(job);
+            log.error("이미지 삭제 실패: jobId={}, fileName={}", jobId, job.getFileName(), failure);
+        }
+    }
+
+    /**
+     * 최대 maxAttempts 번, 실패할 때마다 대기 시간을 두 배로 늘리며 재시도
+     *
+     * @return 마지막 실패 원인 (성공하면 null)
+     */
+    private Exception retry(FileJob job, Transfer transfer) {
+        Exception failure = null;
+        long backoff = retryBackoff.toMillis();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            // 시도마다 기록 -> updated_at 이 갱신되어 정리 주기에 멈춘 작업으로 보지 않음
+            job.setAttempts(job.getAttempts() + 1);
+            fileJobRepository.save(job);
+            try {
+                transfer.run();
+                return null;
+            } catch (Exception e) {
+                failure = e;
+                job.setLastError(abbreviate(e.toString()));
+                log.warn("파일 작업 실패 ({}/{}): jobId={}, {}", attempt, maxAttempts, job.getId(), e.toString());
+            }
+            if (attempt < maxAttempts) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return failure;
+                }
+                backoff *= 2;
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * 멈춘 작업 재실행 + 버려진/오래된 실패 업로드 정리
+     */
+    @Scheduled(fixedDelayString = "${board.file.upload.sweep-interval:5m}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (FileJob job : fileJobRepository.findByStatusAndUpdatedAtBeforeOrderByUpdatedAt(
+                FileJob.Status.PENDING, now.minus(staleAfter), Limit.of(SWEEP_BATCH_SIZE))) {
+            if (job.getType() == FileJob.Type.DELETE) {
+                submit(job.getId(), () -> runDelete(job.getId()));
+            } else if (job.getPostId() == null) {
+                List<Long> postIds = postRepository.findIdsByImageUrl(job.getFileName());
+                if (postIds.isEmpty()) {
+                    // 게시물 저장 전에 실패한 요청(검증/권한 오류 등)이 남긴 업로드 - S3 에는 올라간 적 없음
+                    deleteSpool(job);
+                    fileJobRepository.delete(job);
+                } else {
+                    // 게시물 커밋과 submitUpload 사이에 서버가 멈춤 -> 게시물이 PENDING 으로 남지 않도록 실패 처리
+                    job.setPostId(postIds.get(0));
+                    markUploadFailed(job, "게시물 연결 전 중단됨");
+                }
+            } else if (Files.exists(Path.of(job.getSpoolPath()))) {
+                submit(job.getId(), () -> runUpload(job.getId()));
+            } else {
+                markUploadFailed(job, "임시 파일 없음");
+            }
+        }
+
+        for (FileJob job : fileJobRepository.findByStatusAndUpdatedAtBeforeOrderByUpdatedAt(
+                FileJob.Status.FAILED, now.minus(failedRetention), Limit.of(SWEEP_BATCH_SIZE))) {
+            if (job.getType() == FileJob.Type.DELETE) {
+                // 삭제는 다시 시도 (없는 키 삭제도 성공으로 처리되므로 S3 장애가 풀리면 끝남)
+                job.setStatus(FileJob.Status.PENDING);
+                fileJobRepository.save(job);
+                submit(job.getId(), () -> runDelete(job.getId()));
+            } else {
+                // 실패한 업로드가 S3 에 남긴 원본/변형 조각과 임시 파일 삭제
+                deleteSpool(job);
+                fileJobRepository.delete(job);
+                deleteLater(job.getFileName());
+            }
+        }
+    }
+
+    /**
+     * 업로드 실패 처리 - 이미지를 교체하던 중이면 게시물을 이전 이미지로 되돌리고, 아니면 FAILED (자리표시)
+     */
+    private void markUploadFailed(FileJob job, String reason) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            job.setStatus(FileJob.Status.FAILED);
+            job.setLastError(reason);
+            fileJobRepository.save(job);
+            if (job.getReplacedFileName() != null) {
+                postRepository.restoreImage(job.getPostId(), job.getFileName(), job.getReplacedFileName(),
+                        Post.ImageStatus.READY);
+            } else {
+                postRepository.updateImageStatus(job.getPostId(), job.getFileName(), Post.ImageStatus.FAILED);
+            }
+        });
+        postDetailCache.evictView(job.getPostId());
+    }
+
+    private void deleteSpool(FileJob job) {
+        if (job.getSpoolPath() == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Path.of(job.getSpoolPath()));
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", job.getSpoolPath(), e);
+        }
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    @FunctionalInterface
+    private interface Transfer {
+        void run() throws Exception;
+    }
+}
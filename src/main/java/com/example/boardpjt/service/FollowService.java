@@ -1,77 +1,110 @@
 package com.example.boardpjt.service;
 
-import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.model.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Set;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * 팔로우 관리
+ * following/followers 컬렉션을 로딩하지 않고 user_follow 테이블과 비정규화된 카운터 컬럼만 사용하므로
+ * 팔로워 수와 관계없이 비용이 일정하다.
+ */
 @Service
 @RequiredArgsConstructor
 public class FollowService {
     private final UserAccountRepository userAccountRepository;
+    private final PostDetailCache postDetailCache;
     // UserAccount -> follow, unfollow, following, followers ...
 
     // 4개
     @Transactional
     public void followUser(String followerUsername, Long targetId) {
         // followerUsername -> Authentication에 있는 username.
-        UserAccount follower = userAccountRepository
-                .findByUsername(followerUsername)
+        Long followerId = userAccountRepository.findIdByUsername(followerUsername)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        UserAccount target = userAccountRepository
-                .findById(targetId)
-                .orElseThrow(() -> new IllegalArgumentException("대상 없음"));
-        if (follower.equals(target)) {
+        if (!userAccountRepository.existsById(targetId)) {
+            throw new IllegalArgumentException("대상 없음");
+        }
+        if (followerId.equals(targetId)) {
             throw new IllegalArgumentException("자기 자신을 팔로우할 수 없습니다.");
         }
-        follower.follow(target);
+        // 이미 팔로우 중이면 INSERT IGNORE 가 0 을 반환하므로 카운터를 건드리지 않음
+        if (userAccountRepository.insertFollow(followerId, targetId) == 1) {
+            userAccountRepository.addFollowingCount(followerId, 1);
+            userAccountRepository.addFollowerCount(targetId, 1);
+        }
+        postDetailCache.evictFollow(followerUsername, targetId);
     }
 
     @Transactional
     public void unfollowUser(String followerUsername, Long targetId) {
         // followerUsername -> Authentication에 있는 username.
-        UserAccount follower = userAccountRepository
-                .findByUsername(followerUsername)
+        Long followerId = userAccountRepository.findIdByUsername(followerUsername)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        UserAccount target = userAccountRepository
-                .findById(targetId)
-                .orElseThrow(() -> new IllegalArgumentException("대상 없음"));
-        follower.unfollow(target);
+        if (!userAccountRepository.existsById(targetId)) {
+            throw new IllegalArgumentException("대상 없음");
+        }
+        if (userAccountRepository.deleteFollow(followerId, targetId) == 1) {
+            userAccountRepository.addFollowingCount(followerId, -1);
+            userAccountRepository.addFollowerCount(targetId, -1);
+        }
+        postDetailCache.evictFollow(followerUsername, targetId);
     }
 
-    public int getFollowingCount(Long userId) {
-        return userAccountRepository.findById(userId).orElseThrow().getFollowingCount();
+    @Transactional(readOnly = true)
+    public long getFollowingCount(Long userId) {
+        return userAccountRepository.findFollowingCountById(userId).orElseThrow();
     }
 
-    public int getFollowerCount(Long userId) {
-        return userAccountRepository.findById(userId).orElseThrow().getFollowerCount();
+    @Transactional(readOnly = true)
+    public long getFollowerCount(Long userId) {
+        return userAccountRepository.findFollowerCountById(userId).orElseThrow();
     }
 
+    /**
+     * 팔로워 목록 (id 순, after 다음부터 limit 명)
+     *
+     * @return id -> username (id 오름차순)
+     */
     @Transactional(readOnly = true)
-    public Set<UserAccount> getFollowers(Long userId) {
-        UserAccount user = userAccountRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        return user.getFollowers();
+    public Map<Long, String> getFollowers(Long userId, long after, int limit) {
+        return withUsernames(userAccountRepository.findFollowerIds(userId, after, limit));
     }
 
+    /**
+     * 팔로잉 목록 (id 순, after 다음부터 limit 명)
+     *
+     * @return id -> username (id 오름차순)
+     */
     @Transactional(readOnly = true)
-    public Set<UserAccount> getFollowing(Long userId) {
-        UserAccount user = userAccountRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        return user.getFollowing();
+    public Map<Long, String> getFollowing(Long userId, long after, int limit) {
+        return withUsernames(userAccountRepository.findFollowingIds(userId, after, limit));
+    }
+
+    private Map<Long, String> withUsernames(List<Long> ids) {
+        Map<Long, String> result = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        Map<Long, String> names = new HashMap<>();
+        for (Object[] row : userAccountRepository.findUsernamesByIds(ids)) {
+            names.put((Long) row[0], (String) row[1]);
+        }
+        ids.forEach(id -> result.put(id, names.get(id)));
+        return result;
     }
 
     @Transactional(readOnly = true)
     public boolean isFollowing(String followerUsername, Long targetId) {
-        UserAccount follower = userAccountRepository.findByUsername(followerUsername)
-                .orElse(null);
-        if (follower == null) {
-            return false;
-        }
-        return follower.getFollowing().stream()
-                .anyMatch(user -> user.getId().equals(targetId));
+        // following 컬렉션 전체를 읽지 않고 user_follow 한 행만 확인
+        return userAccountRepository.findIdByUsername(followerUsername)
+                .map(followerId -> userAccountRepository.countFollow(followerId, targetId) > 0)
+                .orElse(false);
     }
 }
@@ -0,0 +1,79 @@
+package com.example.boardpjt.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 사용 가능 여부를 판단하는 컴포넌트
+ *
+ * - board.search.fulltext.enabled=false 이면 항상 LIKE 검색 사용
+ * - post 테이블에 ft_post_title_content 인덱스가 없으면(H2, 마이그레이션 미적용 DB 등) LIKE 검색으로 대체
+ * - 인덱스 확인은 최초 1회만 수행하고 결과를 재사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextSearchSupport {
+
+    static final String INDEX_NAME = "ft_post_title_content";
+
+    // ngram_token_size 기본값. 이보다 짧은 키워드는 FULLTEXT 로 찾을 수 없음
+    private static final int MIN_KEYWORD_LENGTH = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${board.search.fulltext.enabled:true}")
+    private boolean enabled;
+
+    private volatile Boolean indexPresent;
+
+    /**
+     * 키워드를 FULLTEXT 로 검색할 수 있는지 여부
+     */
+    public boolean isApplicable(String keyword) {
+        if (!enabled || keyword == null || sanitize(keyword).length() < MIN_KEYWORD_LENGTH) {
+            return false;
+        }
+        return hasIndex();
+    }
+
+    /**
+     * 사용자 입력을 BOOLEAN MODE 구문 검색어로 변환
+     * 연산자 문자를 제거하고 큰따옴표로 감싸 LIKE '%keyword%' 와 같은 구문 일치로 검색한다.
+     */
+    public String toBooleanQuery(String keyword) {
+        return "\"" + sanitize(keyword) + "\"";
+    }
+
+    private String sanitize(String keyword) {
+        return keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim().replaceAll("\\s+", " ");
+    }
+
+    private boolean hasIndex() {
+        Boolean present = indexPresent;
+        if (present == null) {
+            present = detectIndex();
+            indexPresent = present;
+        }
+        return present;
+    }
+
+    private boolean detectIndex() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            boolean found = count != null && count > 0;
+            log.info("FULLTEXT 인덱스 {} 사용 여부: {}", INDEX_NAME, found);
+            return found;
+        } catch (Exception e) {
+            // information_schema.statistics 가 없는 DB(H2 등) -> LIKE 검색 사용
+            log.info("FULLTEXT 인덱스 확인 불가 - LIKE 검색 사용: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.boardpjt.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지 축소 (JDK ImageIO / Java2D 만 사용)
+ * 원본은 한 번만 디코딩하고, 변형마다 축소 후 JPEG 로 인코딩한다.
+ *
+ * 디코딩 전에 헤더의 가로/세로만 읽어 max-pixels 를 넘는 이미지는 거절한다
+ * (작은 파일이라도 해상도가 크면 디코딩 시 가로 x 세로 x 4바이트를 한 번에 할당 -> OOM).
+ */
+@Component
+public class ImageResizer {
+
+    // 변형 JPEG 품질 (0.0 ~ 1.0)
+    @Value("${board.file.image.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    // 허용하는 최대 해상도 (가로 x 세로)
+    @Value("${board.file.image.max-pixels:40000000}")
+    private long maxPixels;
+
+    /**
+     * 해상도 제한 확인 - 헤더만 읽음 (업로드 요청에서 임시 저장 직후 호출)
+     *
+     * @throws IllegalArgumentException 해상도가 max-pixels 초과이거나 읽을 수 없는 이미지
+     */
+    public void validate(Path source) {
+        try {
+            read(source, 0);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 가로가 targetWidth 의 두 배를 넘는 큰 이미지는 디코딩 단계에서 건너뛰며 읽어(subsampling)
+     * 디코딩 결과의 크기를 줄인다 - 이후 scaleDown 으로 targetWidth 까지 축소
+     *
+     * @return 디코딩한 이미지, ImageIO 가 읽을 수 없는 형식(webp 등)이면 null
+     * @throws IllegalArgumentException 해상도가 max-pixels 초과
+     */
+    public BufferedImage decode(Path source, int targetWidth) throws IOException {
+        return read(source, targetWidth);
+    }
+
+    // targetWidth 가 0 이면 크기 확인만 하고 디코딩하지 않음
+    private BufferedImage read(Path source, int targetWidth) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = stream == null ? null : ImageIO.getImageReaders(stream);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException(
+                            "이미지 해상도가 너무 큽니다. (" + width + "x" + height + ", 최대 " + maxPixels + "픽셀)");
+                }
+                if (targetWidth <= 0) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / (targetWidth * 2));
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가로가 maxWidth 를 넘으면 비율을 유지해 축소한 뒤 JPEG 로 인코딩 (확대는 하지 않음)
+     */
+    public byte[] resizeToJpeg(BufferedImage source, int maxWidth) throws IOException {
+        return encodeJpeg(toRgb(scaleDown(source, maxWidth)));
+    }
+
+    /**
+     * 절반씩 단계적으로 줄여 한 번에 크게 줄일 때 생기는 계단 현상을 줄임
+     */
+    private BufferedImage scaleDown(BufferedImage source, int maxWidth) {
+        if (source.getWidth() <= maxWidth) {
+            return source;
+        }
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * maxWidth / source.getWidth()));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(maxWidth, width / 2);
+            height = width == maxWidth ? targetHeight : Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width > maxWidth);
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // JPEG 는 알파가 없으므로 투명 영역은 흰 배경으로 채움
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
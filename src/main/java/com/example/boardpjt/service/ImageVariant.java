@@ -0,0 +1,41 @@
+package com.example.boardpjt.service;
+
+/**
+ * 업로드 이미지 크기별 변형 - 원본 키 {uuid}.{ext} 에서 {uuid}.{name}.jpg 로 파생
+ *
+ * - THUMB : 목록/메인/마이페이지 카드 (가로 최대 400px)
+ * - MEDIUM: 상세 페이지 본문 (가로 최대 1200px)
+ */
+public enum ImageVariant {
+    ORIGINAL("original", 0),
+    THUMB("thumb", 400),
+    MEDIUM("medium", 1200);
+
+    private final String name;
+    private final int maxWidth;
+
+    ImageVariant(String name, int maxWidth) {
+        this.name = name;
+        this.maxWidth = maxWidth;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * 템플릿에서 넘기는 이름("thumb", "medium") -> 변형. 모르는 이름이면 원본
+     */
+    public static ImageVariant from(String name) {
+        for (ImageVariant variant : values()) {
+            if (variant.name.equalsIgnoreCase(name)) {
+                return variant;
+            }
+        }
+        return ORIGINAL;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.event.PostChangedEvent;
+import com.example.boardpjt.model.repository.PostTagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 태그 순위표 (JVM 내장)
+ * 목록 페이지마다 post_tag 전체를 GROUP BY 하지 않도록 태그별 사용 횟수를 메모리에 유지한다.
+ *
+ * - 태그 -> 사용 횟수 맵 + (횟수 내림차순, 태그명 오름차순) 정렬 집합
+ * - 게시물 생성/수정/삭제 커밋 후 PostChangedEvent 의 이전/현재 태그 차이만 반영 (O(log N))
+ * - 상위 K 개 조회는 정렬 집합 앞에서부터 K 개만 읽음 (O(K))
+ * - 주기적으로 DB 에서 다시 계산하여 어긋난 횟수를 바로잡음
+ *   - PostChangedEvent 를 거치지 않는 쓰기 (DB 에 직접 실행한 SQL, 마이그레이션 등)
+ *   - 커밋 후 이벤트 처리 전에 프로세스가 종료되어 놓친 증감
+ *   - 다중 인스턴스: 이벤트는 JVM 안에서만 전달되므로 각 인스턴스는 자기가 처리한 변경만 반영함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularTagBoard {
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::count).reversed()
+            .thenComparing(Entry::tag);
+
+    private final PostTagRepository postTagRepository;
+
+    private final Map<String, Long> counts = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING);
+    // 쓰기(증감, 재계산)끼리만 직렬화 - 읽기는 잠금 없이 정렬 집합을 순회
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean ready;
+
+    private record Entry(String tag, long count) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사용 횟수 상위 태그
+     */
+    public List<String> top(int limit) {
+        List<String> result = new ArrayList<>(limit);
+        for (Entry entry : ranking) {
+            if (result.size() == limit) {
+                break;
+            }
+            // 증감 도중(이전 항목 제거 ~ 새 항목 추가 사이)에 읽으면 같은 태그가 두 번 보일 수 있음
+            if (!result.contains(entry.tag())) {
+                result.add(entry.tag());
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        Map<String, Long> delta = new HashMap<>();
+        event.previousTags().forEach(tag -> delta.merge(tag, -1L, Long::sum));
+        event.currentTags().forEach(tag -> delta.merge(tag, 1L, Long::sum));
+        delta.values().removeIf(d -> d == 0);
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            delta.forEach(this::apply);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void apply(String tag, long delta) {
+        Long before = counts.get(tag);
+        long after = (before == null ? 0 : before) + delta;
+        if (before != null) {
+            ranking.remove(new Entry(tag, before));
+        }
+        if (after > 0) {
+            counts.put(tag, after);
+            ranking.add(new Entry(tag, after));
+        } else {
+            counts.remove(tag);
+        }
+    }
+
+    /**
+     * DB 의 post_tag 기준으로 전체 재계산 (시작 시 + board.tag.popular.rebuild-interval 주기)
+     * 재계산 중 들어온 증감은 잠금으로 대기했다가 새 값 위에 반영된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${board.tag.popular.rebuild-interval:1h}",
+            fixedDelayString = "${board.tag.popular.rebuild-interval:1h}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            Map<String, Long> fresh = new HashMap<>();
+            for (Object[] row : postTagRepository.countByTagName()) {
+                fresh.put((String) row[0], ((Number) row[1]).longValue());
+            }
+            // 비운 뒤 다시 채우지 않고 차이만 반영 - 재계산 중에도 읽기 결과가 비지 않도록
+            for (String tag : List.copyOf(counts.keySet())) {
+                if (!fresh.containsKey(tag)) {
+                    apply(tag, -counts.get(tag));
+                }
+            }
+            fresh.forEach((tag, count) -> apply(tag, count - counts.getOrDefault(tag, 0L)));
+            ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("인기 태그 재계산 완료: {}개 태그 ({}ms)", counts.size(), System.currentTimeMillis() - started);
+    }
+}
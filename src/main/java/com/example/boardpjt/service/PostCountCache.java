@@ -0,0 +1,55 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.event.PostChangedEvent;
+import com.example.boardpjt.model.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시물 수(근사값) 캐시
+ * 목록 API 에서 includeTotal=true 일 때만 사용하며, 요청마다 COUNT(*) 를 실행하지 않는다.
+ *
+ * - TTL(board.post.count-cache.ttl)이 지나면 다음 조회 시 COUNT(*) 로 다시 맞춤
+ * - 그 사이에는 PostChangedEvent(생성/삭제)로 증감만 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+    private final PostRepository postRepository;
+
+    @Value("${board.post.count-cache.ttl:30s}")
+    private Duration ttl;
+
+    private final AtomicLong count = new AtomicLong();
+    private volatile long refreshedAt;
+
+    public long get() {
+        long now = System.currentTimeMillis();
+        if (refreshedAt == 0 || now - refreshedAt > ttl.toMillis()) {
+            synchronized (this) {
+                if (refreshedAt == 0 || now - refreshedAt > ttl.toMillis()) {
+                    count.set(postRepository.count());
+                    refreshedAt = now;
+                }
+            }
+        }
+        return count.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> count.incrementAndGet();
+            case DELETED -> count.decrementAndGet();
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.event.PostChangedEvent;
+import com.example.boardpjt.model.dto.PostDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시물 상세 페이지 2단 캐시 (Redis)
+ *
+ * - 공용 뷰   post:view:{postId}                  -> PostDTO.DetailView JSON (제목, 내용, 태그, 작성자, 좋아요 수)
+ * - 사용자별  post:viewer:{username}:{postId}     -> hash {liked, bookmarked}
+ *            follow:{username}:{authorId}        -> "1" / "0"
+ *
+ * 무효화는 쓰기 경로에서 호출한다.
+ * - PostService: 수정/삭제(PostChangedEvent), 좋아요 토글
+ * - BookmarkService: 북마크 토글
+ * - FollowService: 팔로우/언팔로우
+ * - FileTransferService: 이미지 업로드 완료/실패
+ * 삭제는 즉시 + 커밋 후 한 번 더 수행하여, 커밋 전에 다른 요청이 옛 값을 다시 채워 넣는 경우를 막는다.
+ * Redis 오류 시에는 캐시 없이 DB 에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    private static final String VIEW_KEY = "post:view:";
+    private static final String VIEWER_KEY = "post:viewer:";
+    private static final String FOLLOW_KEY = "follow:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${board.post.detail-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.post.detail-cache.view-ttl:30m}")
+    private Duration viewTtl;
+
+    @Value("${board.post.detail-cache.viewer-ttl:10m}")
+    private Duration viewerTtl;
+
+    public PostDTO.DetailView getView(Long postId, Supplier<PostDTO.DetailView> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = VIEW_KEY + postId;
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return objectMapper.readValue((String) cached, PostDTO.DetailView.class);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("게시물 상세 캐시 조회 실패: {}", key, e);
+        }
+
+        PostDTO.DetailView view = loader.get();
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(view), viewTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("게시물 상세 캐시 저장 실패: {}", key, e);
+        }
+        return view;
+    }
+
+    public PostDTO.ViewerState getViewerState(String username, Long postId, Long authorId,
+                                              Supplier<PostDTO.ViewerState> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String viewerKey = VIEWER_KEY + username + ":" + postId;
+        String followKey = FOLLOW_KEY + username + ":" + authorId;
+        try {
+            List<Object> flags = redisTemplate.opsForHash().multiGet(viewerKey, List.of("liked", "bookmarked"));
+            Object following = redisTemplate.opsForValue().get(followKey);
+            if (flags.get(0) != null && flags.get(1) != null && following != null) {
+                return new PostDTO.ViewerState("1".equals(flags.get(0)), "1".equals(flags.get(1)), "1".equals(following));
+            }
+        } catch (DataAccessException e) {
+            log.warn("게시물 사용자 상태 캐시 조회 실패: {}", viewerKey, e);
+        }
+
+        PostDTO.ViewerState state = loader.get();
+        try {
+            redisTemplate.opsForHash().putAll(viewerKey, Map.of(
+                    "liked", flag(state.liked()),
+                    "bookmarked", flag(state.bookmarked())));
+            redisTemplate.expire(viewerKey, viewerTtl);
+            redisTemplate.opsForValue().set(followKey, flag(state.followingAuthor()), viewerTtl);
+        } catch (DataAccessException e) {
+            log.warn("게시물 사용자 상태 캐시 저장 실패: {}", viewerKey, e);
+        }
+        return state;
+    }
+
+    /**
+     * 게시물 수정/삭제 커밋 후 공용 뷰 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.CREATED) {
+            delete(VIEW_KEY + event.postId());
+        }
+    }
+
+    /**
+     * 비동기 이미지 업로드 완료/실패: 공용 뷰의 이미지 상태가 바뀜 (FileTransferService)
+     */
+    public void evictView(Long postId) {
+        evict(VIEW_KEY + postId);
+    }
+
+    /**
+     * 좋아요 토글: 공용 뷰의 좋아요 수와 사용자의 liked 값이 바뀜
+     */
+    public void evictLike(String username, Long postId) {
+        evict(VIEW_KEY + postId, VIEWER_KEY + username + ":" + postId);
+    }
+
+    public void evictBookmark(String username, Long postId) {
+        evict(VIEWER_KEY + username + ":" + postId);
+    }
+
+    public void evictFollow(String username, Long authorId) {
+        evict(FOLLOW_KEY + username + ":" + authorId);
+    }
+
+    private void evict(String... keys) {
+        if (!enabled) {
+            return;
+        }
+        delete(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(keys);
+                }
+            });
+        }
+    }
+
+    private void delete(String... keys) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(List.of(keys));
+        } catch (DataAccessException e) {
+            log.warn("게시물 상세 캐시 삭제 실패: {}", List.of(keys), e);
+        }
+    }
+
+    private static String flag(boolean value) {
+        return value ? "1" : "0";
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.dto.PostCursor;
+import com.example.boardpjt.model.dto.PostDTO;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.PostTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물 목록을 PostDTO.Response 로 일괄 변환하는 서비스
+ * 게시물마다 작성자/태그를 지연 로딩하면 행 수만큼 쿼리가 발생하므로(N+1),
+ * 페이지의 게시물 id 목록으로 작성자명과 태그를 각각 한 번의 쿼리로 조회한다.
+ * 좋아요 수는 post.like_count 컬럼을 그대로 사용하므로 추가 쿼리가 없다.
+ *
+ * 목록 한 페이지 비용: 게시물 조회 + 작성자명 1회 + 태그 1회 (페이지 크기와 무관)
+ */
+@Service
+@RequiredArgsConstructor
+public class PostResponseAssembler {
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final FileStorageService fileStorageService;
+
+    @Transactional(readOnly = true)
+    public List<PostDTO.Response> toResponses(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        Map<Long, String> usernames = new HashMap<>();
+        for (Object[] row : postRepository.findAuthorNamesByIds(postIds)) {
+            usernames.put((Long) row[0], (String) row[1]);
+        }
+
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (Object[] row : postTagRepository.findTagNamesByPostIds(postIds)) {
+            tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        return posts.stream()
+                .map(post -> PostDTO.Response.of(
+                        post,
+                        usernames.get(post.getId()),
+                        tags.getOrDefault(post.getId(), Collections.emptyList()),
+                        fileStorageService))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PostDTO.Response> toResponsePage(Page<Post> postPage) {
+        return new PageImpl<>(toResponses(postPage.getContent()), postPage.getPageable(), postPage.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public PostDTO.SliceResponse toSliceResponse(Slice<Post> slice, Long approximateTotal) {
+        return new PostDTO.SliceResponse(toResponses(slice.getContent()),
+                slice.getNumber(), slice.getSize(), slice.hasNext(), approximateTotal);
+    }
+
+    /**
+     * 커서 페이징 결과 변환 - 다음 페이지가 있으면 마지막 게시물 위치로 다음 커서를 만든다.
+     */
+    @Transactional(readOnly = true)
+    public PostDTO.CursorResponse toCursorResponse(Slice<Post> slice, String sort) {
+        List<Post> posts = slice.getContent();
+        String nextCursor = slice.hasNext() && !posts.isEmpty()
+                ? PostCursor.after(sort, posts.get(posts.size() - 1)).encode()
+                : null;
+        return new PostDTO.CursorResponse(toResponses(posts), nextCursor, slice.hasNext());
+    }
+}
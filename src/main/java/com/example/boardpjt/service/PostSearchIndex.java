@@ -0,0 +1,478 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.event.PostChangedEvent;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.PostTagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시물 검색용 JVM 내장 역색인(inverted index)
+ * board.search.mode=index 일 때만 동작하며, 기본값(database)에서는 아무 작업도 하지 않는다.
+ *
+ * 색인 대상: 제목, 내용, 태그, 카테고리, 작성자명
+ * - 한국어 검색을 위해 공백/기호로 단어를 나눈 뒤 2글자 단위(bigram)로 토큰화
+ * - 토큰별 게시물 id 목록(posting list)은 정렬된 long[] 로 저장 (박싱 없음)
+ * - 카테고리/태그 필터용 정확 일치 토큰도 함께 저장
+ *
+ * 갱신 방식:
+ * - 애플리케이션 시작 시 PostRepository 에서 id 순 키셋 페이지(id > 마지막 id)로 전체 색인
+ * - 이후에는 PostService 가 발행하는 PostChangedEvent 를 커밋 후에 받아 해당 게시물만 재색인
+ * - 초기 색인 중에 받은 이벤트는 모아 두었다가 색인이 끝난 뒤 순서대로 반영
+ *   (색인 중 읽은 옛 내용이 그 사이 커밋된 수정/삭제를 덮어쓰지 않도록)
+ *
+ * 검색 결과는 순위가 매겨진 게시물 id 배열이며, PostService 가 필요한 페이지만 DB 에서 한 번에 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    // 필드 구분자 (토큰 키 = 필드 + ":" + bigram)
+    private static final String TITLE = "t";
+    private static final String CONTENT = "c";
+    private static final String TAG = "g";
+    private static final String CATEGORY = "k";
+    private static final String AUTHOR = "a";
+    // 필터용 정확 일치 키 (= 필드 + ":" + 원문)
+    private static final String EXACT = "=";
+
+    private static final long ID_MASK = (1L << 40) - 1;
+
+    private static final String[] KEYWORD_FIELDS = {TITLE, CONTENT, TAG, CATEGORY};
+    private static final int[] KEYWORD_WEIGHTS = {3, 1, 2, 1};
+    private static final String[] AUTHOR_FIELDS = {AUTHOR};
+    private static final int[] AUTHOR_WEIGHTS = {1};
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+
+    @Value("${board.search.mode:database}")
+    private String mode;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // 게시물별로 속한 posting list (수정/삭제 시 기존 토큰 제거용)
+    // 키 문자열을 다시 갖지 않고 postings 의 PostingList 를 참조 (키는 PostingList.key 하나만 존재)
+    private final Map<Long, PostingList[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 초기 색인 중에 커밋된 변경 (write lock 으로 보호). 초기 색인이 끝나면 null
+    private List<PostChangedEvent> pending = new ArrayList<>();
+
+    private volatile boolean ready;
+
+    public boolean isEnabled() {
+        return "index".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 초기 색인이 끝나 검색에 사용할 수 있는 상태인지 여부
+     */
+    public boolean isReady() {
+        return isEnabled() && ready;
+    }
+
+    /**
+     * bigram 을 만들 수 있는(2글자 이상인) 단어가 있어야 색인 검색 가능
+     */
+    public boolean canSearch(String keyword) {
+        return !grams(keyword).isEmpty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!isEnabled()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            long indexed = buildAll();
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                pending.forEach(this::apply);
+                replayed = pending.size();
+                pending = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("게시물 검색 인덱스 생성 완료: {}건, 색인 중 변경 {}건, 토큰 {}개, {}ms",
+                    indexed, replayed, postings.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            // 색인은 사용하지 않고(ready = false) 이후 변경은 모으지 않음 - 검색은 DB 로 처리
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * id 순 키셋 페이지로 전체 게시물 색인 - OFFSET 페이지와 달리 색인 중 삭제/추가가 있어도 건너뛰거나 중복되지 않음
+     *
+     * @return 색인한 게시물 수
+     */
+    private long buildAll() {
+        long indexed = 0;
+        long lastId = 0;
+        List<Post> batch;
+        do {
+            batch = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(BUILD_BATCH_SIZE));
+            List<Long> ids = batch.stream().map(Post::getId).toList();
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            Map<Long, String> authors = new HashMap<>();
+            for (Object[] row : postRepository.findAuthorNamesByIds(ids)) {
+                authors.put((Long) row[0], (String) row[1]);
+            }
+            Map<Long, List<String>> tags = new HashMap<>();
+            for (Object[] row : postTagRepository.findTagNamesByPostIds(ids)) {
+                tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Post post : batch) {
+                    put(post.getId(), post.getTitle(), post.getContent(), post.getCategory(),
+                            authors.get(post.getId()), tags.getOrDefault(post.getId(), List.of()));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            indexed += ids.size();
+        } while (batch.size() == BUILD_BATCH_SIZE);
+        return indexed;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(event);
+            } else {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 결과에 있지만 DB 에 없는 게시물 제거 - PostChangedEvent 없이 삭제된 게시물 (PostService 가 조회 중 발견)
+     */
+    public void removeStale(Collection<Long> postIds) {
+        lock.writeLock().lock();
+        try {
+            postIds.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드로 게시물 id 를 검색
+     *
+     * @param searchType       "author" 이면 작성자명, 그 외에는 제목/내용/태그/카테고리에서 검색
+     * @param category         카테고리 필터 (null/빈 값이면 무시)
+     * @param tag              태그 필터 (null/빈 값이면 무시)
+     * @param rankByRelevance  true 면 점수 내림차순, false 면 id 내림차순(최신순)
+     * @return 정렬된 게시물 id 배열
+     */
+    public long[] search(String keyword, String searchType, String category, String tag, boolean rankByRelevance) {
+        Set<String> grams = grams(keyword);
+        boolean byAuthor = "author".equals(searchType);
+        String[] fields = byAuthor ? AUTHOR_FIELDS : KEYWORD_FIELDS;
+        int[] weights = byAuthor ? AUTHOR_WEIGHTS : KEYWORD_WEIGHTS;
+
+        Hits hits = null;
+
+        lock.readLock().lock();
+        try {
+            // 모든 bigram 을 포함하는 게시물만 남김 (AND), 각 bigram 은 여러 필드 중 어디에 있어도 됨 (OR)
+            for (String gram : grams) {
+                Hits gramHits = Hits.EMPTY;
+                for (int i = 0; i < fields.length; i++) {
+                    PostingList list = postings.get(fields[i] + ":" + gram);
+                    if (list != null) {
+                        gramHits = gramHits.union(list, weights[i]);
+                    }
+                }
+                hits = (hits == null) ? gramHits : hits.intersect(gramHits);
+                if (hits.ids().length == 0) {
+                    return hits.ids();
+                }
+            }
+            if (hits == null) {
+                return new long[0];
+            }
+            if (category != null && !category.isEmpty()) {
+                hits = hits.filter(postings.get(EXACT + CATEGORY + ":" + category));
+            }
+            if (tag != null && !tag.isEmpty()) {
+                hits = hits.filter(postings.get(EXACT + TAG + ":" + tag));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return rankByRelevance ? hits.rankByScore() : hits.latestFirst();
+    }
+
+    // === 색인 갱신 (write lock 안에서 호출) ===
+
+    private void apply(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            remove(event.postId());
+        } else {
+            put(event.postId(), event.title(), event.content(), event.category(),
+                    event.authorName(), event.currentTags());
+        }
+    }
+
+    private void put(Long postId, String title, String content, String category, String author, List<String> tags) {
+        remove(postId);
+
+        Set<String> keys = new HashSet<>();
+        addGrams(keys, TITLE, title);
+        addGrams(keys, CONTENT, content);
+        addGrams(keys, CATEGORY, category);
+        addGrams(keys, AUTHOR, author);
+        if (category != null && !category.isEmpty()) {
+            keys.add(EXACT + CATEGORY + ":" + category);
+        }
+        for (String tag : tags) {
+            addGrams(keys, TAG, tag);
+            keys.add(EXACT + TAG + ":" + tag);
+        }
+
+        // keys 는 이 메서드 안에서만 쓰는 임시 집합 - 문서에는 posting list 참조만 남김
+        long id = postId;
+        PostingList[] lists = new PostingList[keys.size()];
+        int n = 0;
+        for (String key : keys) {
+            PostingList list = postings.computeIfAbsent(key, PostingList::new);
+            list.add(id);
+            lists[n++] = list;
+        }
+        documents.put(postId, lists);
+    }
+
+    private void remove(Long postId) {
+        PostingList[] lists = documents.remove(postId);
+        if (lists == null) {
+            return;
+        }
+        long id = postId;
+        for (PostingList list : lists) {
+            if (list.remove(id) && list.size == 0) {
+                postings.remove(list.key);
+            }
+        }
+    }
+
+    // === 토큰화 ===
+
+    private static void addGrams(Set<String> keys, String field, String text) {
+        for (String gram : grams(text)) {
+            keys.add(field + ":" + gram);
+        }
+    }
+
+    /**
+     * 공백/기호 기준으로 단어를 나누고 각 단어를 2글자 단위로 자른다.
+     * 예) "서울 맛집" -> [서울, 맛집], "제주도여행" -> [제주, 주도, 도여, 여행]
+     * 1글자 단어는 색인하지 않는다.
+     */
+    private static Set<String> grams(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return result;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                for (int j = start; j + 2 <= i; j++) {
+                    result.add(normalized.substring(j, j + 2));
+                }
+                start = -1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 검색 중간 결과: id 오름차순으로 정렬된 게시물 id 와 각 게시물의 점수
+     */
+    private record Hits(long[] ids, int[] scores) {
+
+        static final Hits EMPTY = new Hits(new long[0], new int[0]);
+
+        /**
+         * 현재 결과와 posting list 의 합집합 (양쪽에 있으면 점수 합산)
+         */
+        Hits union(PostingList list, int weight) {
+            long[] b = list.ids;
+            int bSize = list.size;
+            long[] resultIds = new long[ids.length + bSize];
+            int[] resultScores = new int[ids.length + bSize];
+            int i = 0, j = 0, n = 0;
+            while (i < ids.length || j < bSize) {
+                if (j >= bSize || (i < ids.length && ids[i] < b[j])) {
+                    resultIds[n] = ids[i];
+                    resultScores[n++] = scores[i++];
+                } else if (i >= ids.length || b[j] < ids[i]) {
+                    resultIds[n] = b[j++];
+                    resultScores[n++] = weight;
+                } else {
+                    resultIds[n] = ids[i];
+                    resultScores[n++] = scores[i++] + weight;
+                    j++;
+                }
+            }
+            return new Hits(Arrays.copyOf(resultIds, n), Arrays.copyOf(resultScores, n));
+        }
+
+        /**
+         * 교집합 (점수 합산)
+         */
+        Hits intersect(Hits other) {
+            long[] resultIds = new long[Math.min(ids.length, other.ids.length)];
+            int[] resultScores = new int[resultIds.length];
+            int i = 0, j = 0, n = 0;
+            while (i < ids.length && j < other.ids.length) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (other.ids[j] < ids[i]) {
+                    j++;
+                } else {
+                    resultIds[n] = ids[i];
+                    resultScores[n++] = scores[i++] + other.scores[j++];
+                }
+            }
+            return new Hits(Arrays.copyOf(resultIds, n), Arrays.copyOf(resultScores, n));
+        }
+
+        /**
+         * 정확 일치 필터 (카테고리/태그) - posting list 에 있는 게시물만 남김
+         */
+        Hits filter(PostingList allowed) {
+            if (allowed == null) {
+                return EMPTY;
+            }
+            long[] resultIds = new long[ids.length];
+            int[] resultScores = new int[ids.length];
+            int n = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (Arrays.binarySearch(allowed.ids, 0, allowed.size, ids[i]) >= 0) {
+                    resultIds[n] = ids[i];
+                    resultScores[n++] = scores[i];
+                }
+            }
+            return new Hits(Arrays.copyOf(resultIds, n), Arrays.copyOf(resultScores, n));
+        }
+
+        /**
+         * 점수 내림차순, 동점이면 id 내림차순
+         * (점수, id) 를 하나의 long 으로 묶어 정렬: 상위 비트 점수, 하위 40비트 id
+         */
+        long[] rankByScore() {
+            long[] keys = new long[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                keys[i] = ((long) scores[i] << 40) | ids[i];
+            }
+            Arrays.sort(keys);
+            long[] ranked = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                ranked[i] = keys[keys.length - 1 - i] & ID_MASK;
+            }
+            return ranked;
+        }
+
+        /**
+         * id 내림차순 (최신순)
+         */
+        long[] latestFirst() {
+            long[] reversed = new long[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                reversed[i] = ids[ids.length - 1 - i];
+            }
+            return reversed;
+        }
+    }
+
+    /**
+     * 정렬된 게시물 id 목록 (대부분 새 게시물이 가장 큰 id 이므로 append 로 처리됨)
+     */
+    private static final class PostingList {
+        // postings 의 키와 같은 인스턴스 (비었을 때 postings 에서 제거하는 데 사용)
+        private final String key;
+        private long[] ids = new long[4];
+        private int size;
+
+        PostingList(String key) {
+            this.key = key;
+        }
+
+        void add(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return;
+            }
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
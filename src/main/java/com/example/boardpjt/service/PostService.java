@@ -1,36 +1,85 @@
 package com.example.boardpjt.service;
 
+import com.example.boardpjt.event.PostChangedEvent;
+import com.example.boardpjt.model.dto.PostCursor;
 import com.example.boardpjt.model.dto.PostDTO;
 import com.example.boardpjt.model.entity.Post;
 import com.example.boardpjt.model.entity.PostLike;
 import com.example.boardpjt.model.entity.PostTag;
+import com.example.boardpjt.model.entity.Tag;
 import com.example.boardpjt.model.entity.UserAccount;
 import com.example.boardpjt.model.repository.PostLikeRepository;
 import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.PostSpecification;
 import com.example.boardpjt.model.repository.PostTagRepository;
+import com.example.boardpjt.model.repository.TagRepository;
 import com.example.boardpjt.model.repository.UserAccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
+    private static final Set<String> SORT_TAGS = Set.of("latest", "popular", "rating", "relevance");
+
+    // 역색인 검색의 인기순/별점순: DB 정렬에 넘기는 후보 수 상한 (최근 게시물부터) - IN 목록/패킷 크기 제한
+    private static final int INDEX_SORT_CANDIDATES = 1000;
+
+    // MySQL 기본 콜레이션(utf8mb4_0900_ai_ci)처럼 대소문자/악센트를 구분하지 않는 비교
+    private static final Collator TAG_COLLATOR = Collator.getInstance(Locale.ROOT);
+
+    static {
+        TAG_COLLATOR.setStrength(Collator.PRIMARY);
+    }
+
     private final PostRepository postRepository;
     private final UserAccountRepository userAccountRepository;
     private final PostLikeRepository postLikeRepository;
     private final PostTagRepository postTagRepository;
+    private final TagRepository tagRepository;
+    private final FullTextSearchSupport fullTextSearchSupport;
+    private final PostSearchIndex postSearchIndex;
+    private final PopularTagBoard popularTagBoard;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public Post createPost(PostDTO.Request dto, String username) {
+        return createPost(dto, username, Post.ImageStatus.READY);
+    }
+
+    /**
+     * @param imageStatus 이미지 업로드를 비동기로 진행 중이면 PENDING (FileTransferService 가 완료 시 READY 로 변경)
+     */
+    @Transactional
+    public Post createPost(PostDTO.Request dto, String username, Post.ImageStatus imageStatus) {
         UserAccount userAccount = userAccountRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
 
@@ -42,6 +91,7 @@ public class PostService {
         // ✅ imageUrl이 빈 문자열이나 공백인 경우 null로 처리
         if (dto.getImageUrl() != null && !dto.getImageUrl().trim().isEmpty()) {
             post.setImageUrl(dto.getImageUrl());
+            post.setImageStatus(imageStatus);
         } else {
             post.setImageUrl(null);
         }
@@ -49,18 +99,25 @@ public class PostService {
         post.setCategory(dto.getCategory());
         post.setRating(dto.getRating());
 
-        if (dto.getTags() != null) {
-            List<PostTag> postTags = dto.getTags().stream()
-                    .map(tagName -> new PostTag(post, tagName))
-                    .collect(Collectors.toList());
-            post.getPostTags().addAll(postTags);
-        }
+        List<Tag> tags = resolveTags(dto.getTags());
+        tags.forEach(tag -> post.getPostTags().add(new PostTag(post, tag)));
 
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        addUsageCount(tags, 1);
+        eventPublisher.publishEvent(PostChangedEvent.created(saved, tagNames(saved)));
+        return saved;
     }
 
     @Transactional
     public void updatePost(Long id, PostDTO.Request dto, String username) {
+        updatePost(id, dto, username, null);
+    }
+
+    /**
+     * @param imageStatus 새 이미지를 비동기로 업로드 중이면 PENDING, null 이면 이미지가 바뀐 경우에만 READY 로 설정
+     */
+    @Transactional
+    public void updatePost(Long id, PostDTO.Request dto, String username, Post.ImageStatus imageStatus) {
         Post post = findById(id);
         if (!post.getAuthor().getUsername().equals(username)) {
             throw new SecurityException("작성자만 수정 가능");
@@ -72,272 +129,289 @@ public class PostService {
         // [수정] 컨트롤러에서 모든 이미지 관련 로직(업로드, 삭제, 유지)을 처리한 후,
         // 최종 결정된 이미지 URL을 DTO로부터 받아 DB에 반영합니다.
         // 이 값은 새 이미지 URL, 기존 이미지 URL, 또는 null일 수 있습니다.
+        Post.ImageStatus newImageStatus = imageStatus != null ? imageStatus
+                : !Objects.equals(post.getImageUrl(), dto.getImageUrl()) ? Post.ImageStatus.READY : null;
         post.setImageUrl(dto.getImageUrl());
+        if (newImageStatus != null) {
+            // image_status 는 변경 감지로 쓰이지 않음(updatable = false) -> UPDATE 로 직접 반영
+            post.setImageStatus(newImageStatus);
+            postRepository.setImageStatus(post.getId(), newImageStatus);
+        }
 
         post.setCategory(dto.getCategory());
         post.setRating(dto.getRating());
 
-        post.getPostTags().clear();
-        if (dto.getTags() != null) {
-            List<PostTag> postTags = dto.getTags().stream()
-                    .map(tagName -> new PostTag(post, tagName))
-                    .collect(Collectors.toList());
-            post.getPostTags().addAll(postTags);
-        }
+        List<String> previousTags = tagNames(post);
+        updateTags(post, resolveTags(dto.getTags()));
 
-        postRepository.save(post);
+        // post 는 영속 상태이므로 save(merge) 없이 커밋 시 변경 감지로 반영
+        // (merge 는 새 PostTag 마다 존재 여부 SELECT 를 실행함)
+        eventPublisher.publishEvent(PostChangedEvent.updated(post, previousTags, tagNames(post)));
     }
 
     @Transactional
     public long toggleLike(Long postId, String username) {
-        Post post = findById(postId);
+        return meterRegistry.timer("board.post.like.toggle")
+                .record(() -> doToggleLike(postId, username));
+    }
+
+    private long doToggleLike(Long postId, String username) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
         UserAccount userAccount = userAccountRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
 
         Optional<PostLike> postLike = postLikeRepository.findByUserAccountAndPost(userAccount, post);
 
+        // PostLike 추가/삭제와 같은 트랜잭션에서 like_count 컬럼을 원자적으로 증감
         if (postLike.isPresent()) {
             postLikeRepository.delete(postLike.get());
+            postRepository.addLikeCount(postId, -1);
         } else {
             postLikeRepository.save(new PostLike(userAccount, post));
+            postRepository.addLikeCount(postId, 1);
         }
-        return postLikeRepository.countByPost(post);
+        postDetailCache.evictLike(username, postId);
+        return postRepository.findLikeCountById(postId);
     }
 
+    /**
+     * 태그별 게시물 (최신순)
+     * post_tag PK 에서 현재 페이지의 게시물 id 만 구한 뒤 해당 게시물만 조회
+     */
     @Transactional(readOnly = true)
     public Page<Post> findByTag(String tagName, int page) {
         Pageable pageable = PageRequest.of(page, 10);
-        List<PostTag> postTags = postTagRepository.findByTagName(tagName);
-        List<Long> postIds = postTags.stream().map(pt -> pt.getPost().getId()).collect(Collectors.toList());
-        return postRepository.findByIdIn(postIds, pageable);
+        Optional<Long> tagId = Optional.ofNullable(Tag.normalize(tagName)).flatMap(tagRepository::findIdByName);
+        if (tagId.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<Long> ids = postTagRepository.findPostIdsByTagId(tagId.get(), pageable);
+        Map<Long, Post> posts = postRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.map(posts::get);
     }
 
     @Transactional(readOnly = true)
     public long getLikeCount(Post post) {
-        return postLikeRepository.countByPost(post);
+        return post.getLikeCount();
     }
 
     @Transactional(readOnly = true)
     public boolean isLiked(Long postId, String username) {
-        Optional<UserAccount> userAccountOpt = userAccountRepository.findByUsername(username);
-        if (userAccountOpt.isEmpty()) {
-            return false;
-        }
-
-        Optional<Post> postOpt = postRepository.findById(postId);
-        if (postOpt.isEmpty()) {
-            return false;
-        }
-
-        return postLikeRepository.findByUserAccountAndPost(userAccountOpt.get(), postOpt.get()).isPresent();
+        return userAccountRepository.findIdByUsername(username)
+                .map(userId -> postLikeRepository.existsByPostIdAndUserId(postId, userId))
+                .orElse(false);
     }
 
+    /**
+     * 검색 조건 없는 최신순 목록 (count 쿼리 없음)
+     */
     @Transactional(readOnly = true)
-    public Page<Post> findWithPagingAndSearch(String keyword, int page) {
-        Pageable pageable = PageRequest.of(page, 6);
-        return postRepository.findByTitleContainingOrContentContainingOrderByIdDesc(keyword, keyword, pageable);
+    public Slice<Post> findLatest(int page, int size) {
+        return postRepository.findSliceBy(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id")));
     }
 
     @Transactional(readOnly = true)
     public Page<Post> findWithPagingAndSearchAndCategory(String keyword, String category, String tag, String searchType, String sort, int page) {
-        keyword = (keyword == null) ? "" : keyword;
-        searchType = (searchType == null) ? "titleContent" : searchType;
-        sort = (sort == null) ? "latest" : sort;
+        String normalizedKeyword = (keyword == null) ? "" : keyword;
+        String normalizedSearchType = (searchType == null) ? "titleContent" : searchType;
+        String normalizedSort = (sort == null) ? "latest" : sort;
+
+        // 태그 값은 사용자 입력이므로 알려진 값으로만 태깅 (지표 카디널리티 제한)
+        return meterRegistry.timer("board.post.search",
+                        "sort", SORT_TAGS.contains(normalizedSort) ? normalizedSort : "other",
+                        "searchType", "author".equals(normalizedSearchType) ? "author" : "titleContent",
+                        "hasTag", String.valueOf(tag != null && !tag.isEmpty()))
+                .record(() -> search(normalizedKeyword, category, tag, normalizedSearchType, normalizedSort, page));
+    }
 
-        // 정렬 기준 설정
-        Sort sortOrder;
-        switch (sort) {
-            case "popular":
-                // 인기순은 별도 메서드 사용
-                return
-                        findWithPagingAndSearchBySortPopular(keyword, category, tag, searchType, page);
-            case "rating":
-                sortOrder = Sort.by(Sort.Direction.DESC, "rating").and(Sort.by(Sort.Direction.DESC, "id"));
-                break;
-            default: // latest
-                sortOrder = Sort.by(Sort.Direction.DESC, "id");
-                break;
+    private Page<Post> search(String keyword, String category, String tag, String searchType, String sort, int page) {
+        // board.search.mode=index 이고 인덱스가 준비되었으면 JVM 내장 역색인으로 검색
+        if (usesIndex(keyword)) {
+            return searchWithIndex(keyword, category, tag, searchType, sort, page);
         }
 
-        Pageable pageable = PageRequest.of(page, 6, sortOrder);
-
-        // [수정] 태그 필터링이 있는 경우
-        if (tag != null && !tag.isEmpty()) {
-            List<PostTag> postTags = postTagRepository.findByTagName(tag);
-            List<Long> postIds = postTags.stream().map(pt -> pt.getPost().getId()).collect(Collectors.toList());
-
-            if (postIds.isEmpty()) {
-                // 태그에 해당하는 게시물이 없으면 빈 페이지 반환
-                return Page.empty(pageable);
-            }
+        // 제목/내용 검색은 FULLTEXT(ngram) 인덱스가 있으면 MATCH ... AGAINST, 없으면 LIKE 사용
+        boolean fullText = !"author".equals(searchType) && fullTextSearchSupport.isApplicable(keyword);
+        String booleanQuery = fullText ? fullTextSearchSupport.toBooleanQuery(keyword) : null;
 
-            // 태그 + 카테고리 + 키워드 조합 처리
-            if (category == null || category.isEmpty()) {
-                // 태그만 또는 태그 + 키워드
-                if (keyword.isEmpty()) {
-                    return postRepository.findByIdIn(postIds, pageable);
-                } else if ("author".equals(searchType)) {
-                    // 태그 + 작성자 검색: 메모리에서 필터링
-                    return filterPostsByAuthor(postIds, keyword, pageable);
-                } else {
-                    // 태그 + 제목/내용 검색: 메모리에서 필터링
-                    return filterPostsByTitleOrContent(postIds, keyword, pageable);
-                }
-            } else {
-                // 태그 + 카테고리 (+ 키워드 옵션)
-                if (keyword.isEmpty()) {
-                    return filterPostsByCategory(postIds, category, pageable);
-                } else if ("author".equals(searchType)) {
-                    return filterPostsByCategoryAndAuthor(postIds, category, keyword, pageable);
-                } else {
-                    return filterPostsByCategoryAndTitleOrContent(postIds, category, keyword, pageable);
-                }
-            }
-        }
+        // 태그 + 카테고리 + 키워드 조건을 하나의 Specification으로 조합
+        // -> 페이징 쿼리 1개 + count 쿼리 1개로 처리 (메모리 필터링 없음)
+        Specification<Post> spec = searchSpec(keyword, category, tag, searchType, booleanQuery);
 
-        // 태그 필터링이 없는 경우 (기존 로직)
-        if (category == null || category.isEmpty()) {
-            // 카테고리 없이 검색
-            if (keyword.isEmpty()) {
-                return postRepository.findAll(pageable);
-            } else if ("author".equals(searchType)) {
-                return postRepository.findByAuthor_UsernameContaining(keyword, pageable);
-            } else {
-                return postRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable);
-            }
+        Sort sortOrder;
+        if ("relevance".equals(sort) && fullText) {
+            spec = spec.and(PostSpecification.orderByRelevance(booleanQuery));
+            sortOrder = Sort.unsorted();
         } else {
-            // 카테고리와 함께 검색
-            if (keyword.isEmpty()) {
-                return postRepository.findByCategory(category, pageable);
-            } else if ("author".equals(searchType)) {
-                return postRepository.findByCategoryAndAuthor_UsernameContaining(category, keyword, pageable);
-            } else {
-                return postRepository.findByCategoryAndTitleContainingOrCategoryAndContentContaining(
-                        category, keyword, category, keyword, pageable);
-            }
+            sortOrder = sortOrder(sort);
         }
-    }
 
-    // 태그 필터링된 게시물 중 카테고리로 추가 필터링하는 헬퍼 메서드들
-    private Page<Post> filterPostsByCategory(List<Long> postIds, String category, Pageable pageable) {
-        List<Post> posts = postRepository.findAllById(postIds).stream()
-                .filter(post -> category.equals(post.getCategory()))
-                .sorted((p1, p2) -> p2.getId().compareTo(p1.getId()))
-                .collect(Collectors.toList());
-        return createPageFromList(posts, pageable);
+        Pageable pageable = PageRequest.of(page, 6, sortOrder);
+        return postRepository.findAll(spec, pageable);
     }
 
-    private Page<Post> filterPostsByAuthor(List<Long> postIds, String username, Pageable pageable) {
-        List<Post> posts = postRepository.findAllById(postIds).stream()
-                .filter(post -> post.getAuthor().getUsername().contains(username))
-                .sorted((p1, p2) -> p2.getId().compareTo(p1.getId()))
-                .collect(Collectors.toList());
-        return createPageFromList(posts, pageable);
-    }
+    /**
+     * 커서(keyset) 페이징 목록 조회 - OFFSET 과 count 쿼리 없이 (정렬 키, id) 위치부터 size 건 조회
+     * size + 1 건을 읽어 다음 페이지 존재 여부를 판단한다.
+     * 첫 페이지(findWithPagingAndSearchAndCategory)와 같은 결과 집합을 이어 가도록, 역색인 검색이면 커서도 인덱스로 처리한다.
+     *
+     * @param sort  latest / rating / popular (PostCursor.SORTS)
+     * @param after 마지막으로 받은 위치 (null 이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public Slice<Post> findByCursor(String keyword, String category, String tag, String searchType,
+                                    String sort, PostCursor after, int size) {
+        keyword = (keyword == null) ? "" : keyword;
+        if (usesIndex(keyword)) {
+            return findByCursorWithIndex(keyword, category, tag, searchType, sort, after, size);
+        }
+        boolean fullText = !"author".equals(searchType) && fullTextSearchSupport.isApplicable(keyword);
+        String booleanQuery = fullText ? fullTextSearchSupport.toBooleanQuery(keyword) : null;
 
-    private Page<Post> filterPostsByTitleOrContent(List<Long> postIds, String keyword, Pageable pageable) {
-        List<Post> posts = postRepository.findAllById(postIds).stream()
-                .filter(post -> post.getTitle().contains(keyword) || post.getContent().contains(keyword))
-                .sorted((p1, p2) -> p2.getId().compareTo(p1.getId()))
-                .collect(Collectors.toList());
-        return createPageFromList(posts, pageable);
-    }
+        Specification<Post> spec = searchSpec(keyword, category, tag, searchType, booleanQuery)
+                .and(PostSpecification.keyset(sort, after));
+        List<Post> rows = postRepository.findBy(spec, query -> query.limit(size + 1).all());
 
-    private Page<Post> filterPostsByCategoryAndAuthor(List<Long> postIds, String category, String username, Pageable pageable) {
-        List<Post> posts = postRepository.findAllById(postIds).stream()
-                .filter(post -> category.equals(post.getCategory()) && post.getAuthor().getUsername().contains(username))
-                .sorted((p1, p2) -> p2.getId().compareTo(p1.getId()))
-                .collect(Collectors.toList());
-        return createPageFromList(posts, pageable);
+        boolean hasNext = rows.size() > size;
+        List<Post> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
     }
 
-    private Page<Post> filterPostsByCategoryAndTitleOrContent(List<Long> postIds, String category, String keyword, Pageable pageable) {
-        List<Post> posts = postRepository.findAllById(postIds).stream()
-                .filter(post -> category.equals(post.getCategory()) &&
-                        (post.getTitle().contains(keyword) || post.getContent().contains(keyword)))
-                .sorted((p1, p2) -> p2.getId().compareTo(p1.getId()))
-                .collect(Collectors.toList());
-        return createPageFromList(posts, pageable);
+    private Specification<Post> searchSpec(String keyword, String category, String tag, String searchType, String booleanQuery) {
+        return Specification.allOf(
+                tagFilter(tag),
+                PostSpecification.inCategory(category),
+                booleanQuery != null
+                        ? PostSpecification.matchesFullText(booleanQuery)
+                        : PostSpecification.matchesKeyword(keyword, searchType)
+        );
     }
 
-    private Page<Post> createPageFromList(List<Post> posts, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), posts.size());
+    /**
+     * 태그 이름 -> tag_id 조건 (사전에 없는 태그면 결과 없음)
+     */
+    private Specification<Post> tagFilter(String tag) {
+        String name = Tag.normalize(tag);
+        if (name == null) {
+            return null;
+        }
+        return tagRepository.findIdByName(name)
+                .map(PostSpecification::hasTag)
+                .orElseGet(PostSpecification::none);
+    }
 
-        if (start > posts.size()) {
-            return Page.empty(pageable);
+    /**
+     * 역색인 검색: 인덱스에서 조건에 맞는 게시물 id 를 구한 뒤 현재 페이지만 DB 에서 조회 (count 쿼리 없음)
+     * - 관련도순/최신순: 인덱스가 정렬한 id 중 현재 페이지 분량만 IN 쿼리로 조회
+     * - 인기순/별점순: 정렬 값이 DB 에 있으므로 최근 INDEX_SORT_CANDIDATES 건의 후보를 DB 에서 정렬해 id 만 받고,
+     *   현재 페이지만 조회 (후보보다 많이 일치하면 최근 게시물 안에서의 순위)
+     * 전체 개수에서 DB 에 없는 게시물은 빼되, 관련도순/최신순은 현재 페이지에서 발견한 것만 뺀다 (발견 즉시 인덱스에서도 제거).
+     */
+    private Page<Post> searchWithIndex(String keyword, String category, String tag, String searchType, String sort, int page) {
+        boolean byRelevance = "relevance".equals(sort);
+        long[] ids = postSearchIndex.search(keyword, searchType, category, Tag.normalize(tag), byRelevance);
+
+        List<Long> ranked;
+        if (byRelevance || "latest".equals(sort)) {
+            ranked = Arrays.stream(ids).boxed().toList();
+        } else {
+            // DB 에 있는 게시물만 반환되므로 전체 개수도 정확
+            ranked = ids.length == 0 ? List.of() : postRepository.findIdsByIdIn(indexCandidates(ids), sortOrder(sort));
         }
 
-        return new org.springframework.data.domain.PageImpl<>(
-                posts.subList(start, end),
-                pageable,
-                posts.size()
-        );
+        Pageable pageable = PageRequest.of(page, 6);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Post> content = findInOrder(ranked.subList(from, to));
+        return new PageImpl<>(content, pageable, ranked.size() - ((to - from) - content.size()));
     }
 
-    private Page<Post> findWithPagingAndSearchBySortPopular(String keyword, String category, String tag, String searchType, int page) {
-        Pageable pageable = PageRequest.of(page, 6);
+    private boolean usesIndex(String keyword) {
+        return !keyword.isEmpty() && postSearchIndex.isReady() && postSearchIndex.canSearch(keyword);
+    }
 
-        // 태그 필터링이 있는 경우
-        if (tag != null && !tag.isEmpty()) {
-            List<PostTag> postTags = postTagRepository.findByTagName(tag);
-            List<Long> postIds = postTags.stream().map(pt -> pt.getPost().getId()).collect(Collectors.toList());
+    /**
+     * 역색인 검색의 커서 페이징 - searchWithIndex 와 같은 후보/순서에서 커서 다음 위치부터 size + 1 건
+     * - 최신순: 인덱스의 id 내림차순 배열에서 커서 id 보다 작은 첫 위치부터 (id 키셋)
+     * - 인기순/별점순: 같은 후보(INDEX_SORT_CANDIDATES) 안에서 DB 의 (정렬 키, id) 키셋
+     */
+    private Slice<Post> findByCursorWithIndex(String keyword, String category, String tag, String searchType,
+                                              String sort, PostCursor after, int size) {
+        long[] ids = postSearchIndex.search(keyword, searchType, category, Tag.normalize(tag), false);
+        List<Post> rows;
+        boolean moreIds = false;
+        if ("latest".equals(sort)) {
+            int from = after == null ? 0 : firstBelow(ids, after.id());
+            int to = Math.min(from + size + 1, ids.length);
+            rows = findInOrder(Arrays.stream(ids, from, to).boxed().toList());
+            // DB 에 없는 id 가 빠져 size 건을 못 채웠어도 뒤에 id 가 남아 있으면 다음 페이지 있음
+            moreIds = to < ids.length;
+        } else if (ids.length == 0) {
+            rows = List.of();
+        } else {
+            Specification<Post> spec = PostSpecification.idIn(indexCandidates(ids))
+                    .and(PostSpecification.keyset(sort, after));
+            rows = postRepository.findBy(spec, query -> query.limit(size + 1).all());
+        }
 
-            if (postIds.isEmpty()) {
-                return Page.empty(pageable);
+        boolean hasNext = rows.size() > size || (moreIds && !rows.isEmpty());
+        List<Post> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * id 내림차순 배열에서 id 보다 작은 첫 위치 (이진 탐색)
+     */
+    private static int firstBelow(long[] descendingIds, long id) {
+        int low = 0;
+        int high = descendingIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (descendingIds[mid] >= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
+        }
+        return low;
+    }
+
+    /**
+     * DB 정렬(인기순/별점순)에 넘길 역색인 검색 후보 - 최신순 결과의 앞쪽 INDEX_SORT_CANDIDATES 건
+     */
+    private static List<Long> indexCandidates(long[] latestFirst) {
+        return Arrays.stream(latestFirst, 0, Math.min(latestFirst.length, INDEX_SORT_CANDIDATES)).boxed().toList();
+    }
 
-            // 태그로 필터링된 게시물들을 좋아요 수로 정렬
-            List<Post> posts = postRepository.findAllById(postIds).stream()
-                    .filter(post -> {
-                        // 카테고리 필터 적용
-                        if (category != null && !category.isEmpty() && !category.equals(post.getCategory())) {
-                            return false;
-                        }
-                        // 키워드 필터 적용
-                        if (!keyword.isEmpty()) {
-                            if ("author".equals(searchType)) {
-                                return post.getAuthor().getUsername().contains(keyword);
-                            } else {
-                                return post.getTitle().contains(keyword) || post.getContent().contains(keyword);
-                            }
-                        }
-                        return true;
-                    })
-                    .sorted((p1, p2) -> {
-                        long likeCount1 = getLikeCount(p1);
-                        long likeCount2 = getLikeCount(p2);
-                        int cmp = Long.compare(likeCount2, likeCount1);
-                        if (cmp == 0) {
-                            return p2.getId().compareTo(p1.getId());
-                        }
-                        return cmp;
-                    })
-                    .collect(Collectors.toList());
-
-            return createPageFromList(posts, pageable);
+    /**
+     * id 목록 순서대로 게시물 조회 (findAllById 는 순서를 보장하지 않음)
+     * DB 에 없는 id 는 PostChangedEvent 없이 삭제된 게시물이므로 검색 인덱스에서도 제거
+     */
+    private List<Post> findInOrder(List<Long> ids) {
+        Map<Long, Post> posts = postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Long> stale = ids.stream().filter(id -> !posts.containsKey(id)).toList();
+        if (!stale.isEmpty()) {
+            postSearchIndex.removeStale(stale);
         }
+        return ids.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-        // 태그 필터링이 없는 경우 (기존 로직)
-        if (category == null || category.isEmpty()) {
-            // 카테고리 없이 검색
-            if (keyword.isEmpty()) {
-                return postRepository.findAllOrderByLikeCount(pageable);
-            } else if ("author".equals(searchType)) {
-                return postRepository.findByAuthor_UsernameContainingOrderByLikeCount(keyword, pageable);
-            } else {
-                return postRepository.findByTitleContainingOrContentContainingOrderByLikeCount(keyword, keyword, pageable);
-            }
-        } else {
-            // 카테고리와 함께 검색
-            if (keyword.isEmpty()) {
-                return postRepository.findByCategoryOrderByLikeCount(category, pageable);
-            } else if ("author".equals(searchType)) {
-                return postRepository.findByCategoryAndAuthor_UsernameContainingOrderByLikeCount(category, keyword, pageable);
-            } else {
-                return postRepository.findByCategoryAndTitleContainingOrCategoryAndContentContainingOrderByLikeCount(
-                        category, keyword, category, keyword, pageable);
-            }
+    private Sort sortOrder(String sort) {
+        switch (sort) {
+            case "popular":
+                // 인기순은 비정규화된 like_count 컬럼으로 정렬 (idx_post_like_count 사용)
+                return Sort.by(Sort.Direction.DESC, "likeCount").and(Sort.by(Sort.Direction.DESC, "id"));
+            case "rating":
+                return Sort.by(Sort.Direction.DESC, "rating").and(Sort.by(Sort.Direction.DESC, "id"));
+            default: // latest, (FULLTEXT 가 아닐 때의) relevance
+                return Sort.by(Sort.Direction.DESC, "id");
         }
     }
 
@@ -353,7 +427,10 @@ public class PostService {
         if (!post.getAuthor().getUsername().equals(username)) {
             throw new SecurityException("작성자만 삭제 가능");
         }
+        List<String> previousTags = tagNames(post);
+        addUsageCount(post.getPostTags().stream().map(PostTag::getTag).toList(), -1);
         postRepository.deleteById(id);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post, previousTags));
     }
 
     @Transactional(readOnly = true)
@@ -364,14 +441,102 @@ public class PostService {
 
     @Transactional(readOnly = true)
     public List<Post> findRecentPosts(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        Page<Post> page = postRepository.findByTitleContainingOrContentContainingOrderByIdDesc("", "", pageable);
-        return page.getContent();
+        return findLatest(0, limit).getContent();
+    }
+
+    private List<String> tagNames(Post post) {
+        return post.getPostTags().stream().map(PostTag::getTagName).toList();
+    }
+
+    /**
+     * 입력 태그를 정규화하여 태그 사전에서 찾고, 없는 태그는 새로 등록 (중복 제거, 입력 순서 유지)
+     */
+    private List<Tag> resolveTags(List<String> rawNames) {
+        if (rawNames == null || rawNames.isEmpty()) {
+            return List.of();
+        }
+        Set<String> names = rawNames.stream()
+                .map(Tag::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        List<Tag> found = new ArrayList<>(tagRepository.findByNameIn(names));
+        List<String> missing = names.stream().filter(name -> match(found, name) == null).toList();
+        if (!missing.isEmpty()) {
+            // 게시물 트랜잭션 안에서 등록 (커넥션 하나만 사용) - 동시에 같은 태그를 등록하면 uk_tag_name 충돌은 무시됨
+            // 정렬된 순서로 등록하여 서로 다른 순서로 같은 태그들을 등록하는 요청끼리 교착되지 않도록 함
+            missing.stream().sorted().forEach(tagRepository::insertIgnore);
+            // 다른 트랜잭션이 커밋한 행은 이 트랜잭션의 스냅샷(REPEATABLE READ)에 보이지 않음 -> 잠금 읽기로 최신 행 조회
+            found.addAll(tagRepository.findForUpdateByNameIn(missing));
+        }
+        return names.stream()
+                .map(name -> {
+                    Tag tag = match(found, name);
+                    if (tag == null) {
+                        throw new IllegalStateException("태그 등록 실패: " + name);
+                    }
+                    return tag;
+                })
+                .distinct() // 입력은 달라도 콜레이션상 같은 이름이면 같은 태그
+                .toList();
+    }
+
+    /**
+     * 이름이 같은 태그, 없으면 DB 콜레이션(대소문자/악센트 무시)상 같은 태그
+     * - uk_tag_name 과 findByNameIn 은 콜레이션으로 비교하므로 'café' 로 찾으면 'cafe' 행이 반환될 수 있음
+     */
+    private static Tag match(List<Tag> tags, String name) {
+        Tag equivalent = null;
+        for (Tag tag : tags) {
+            if (tag.getName().equals(name)) {
+                return tag;
+            }
+            if (equivalent == null && TAG_COLLATOR.compare(tag.getName(), name) == 0) {
+                equivalent = tag;
+            }
+        }
+        return equivalent;
+    }
+
+    /**
+     * 태그 변경분만 반영: 빠진 태그의 post_tag 행만 삭제(orphanRemoval), 새 태그의 행만 추가
+     * 태그가 그대로면 post_tag/tag 에 아무 쿼리도 실행하지 않는다.
+     */
+    private void updateTags(Post post, List<Tag> tags) {
+        Set<Long> wanted = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+        Set<Long> current = post.getPostTags().stream().map(pt -> pt.getTag().getId()).collect(Collectors.toSet());
+
+        List<Tag> removed = new ArrayList<>();
+        post.getPostTags().removeIf(pt -> {
+            boolean remove = !wanted.contains(pt.getTag().getId());
+            if (remove) {
+                removed.add(pt.getTag());
+            }
+            return remove;
+        });
+        List<Tag> added = tags.stream().filter(tag -> !current.contains(tag.getId())).toList();
+        added.forEach(tag -> post.getPostTags().add(new PostTag(post, tag)));
+
+        addUsageCount(removed, -1);
+        addUsageCount(added, 1);
+    }
+
+    private void addUsageCount(List<Tag> tags, long delta) {
+        if (!tags.isEmpty()) {
+            tagRepository.addUsageCount(tags.stream().map(Tag::getId).toList(), delta);
+        }
     }
 
     // 제안: 인기 태그 목록을 가져오는 서비스 메서드 추가
+    // 순위표가 준비되기 전(시작 직후)에만 DB 에서 직접 집계
     @Transactional(readOnly = true)
     public List<String> getPopularTags(int limit) {
-        return postTagRepository.findPopularTags(PageRequest.of(0, limit));
+        if (popularTagBoard.isReady()) {
+            return popularTagBoard.top(limit);
+        }
+        return tagRepository.findPopularNames(PageRequest.of(0, limit));
     }
 }
\ No newline at end of file
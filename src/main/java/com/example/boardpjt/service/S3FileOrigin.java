@@ -0,0 +1,65 @@
+package com.example.boardpjt.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * S3 객체를 로컬 파일로 내려받는 FileOrigin
+ */
+@Component
+@RequiredArgsConstructor
+public class S3FileOrigin implements FileOrigin {
+
+    private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 캐시 미스 다운로드는 요청 스레드에서 실행되므로 전체 호출 시간을 제한 (FileDiskCache 대기 시간과 같은 값)
+    @Value("${board.file.disk-cache.load-timeout:30s}")
+    private Duration timeout;
+
+    @Override
+    public Metadata download(String key, Path target) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .overrideConfiguration(config -> config.apiCallTimeout(timeout))
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            GetObjectResponse response = s3Client.getObject(request, ResponseTransformer.toFile(target));
+            outcome = "success";
+            return new Metadata(response.contentType(), response.eTag(), response.lastModified());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new NoSuchFileException(key);
+            }
+            throw new IOException("S3 파일 조회 실패: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("S3 파일 조회 실패: " + key, e);
+        } finally {
+            sample.stop(meterRegistry.timer("board.s3.request", "operation", "get", "outcome", outcome));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.boardpjt.service;
 
 import com.example.boardpjt.model.dto.UserRegisterDTO;
 import com.example.boardpjt.model.entity.UserAccount;
+import com.example.boardpjt.model.repository.PostRepository;
 import com.example.boardpjt.model.repository.UserAccountRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +17,9 @@ import java.util.List;
 public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
+    private final PostRepository postRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthPrincipalService authPrincipalService;
 
     @Transactional
     public UserAccount register(UserRegisterDTO dto) {
@@ -45,6 +48,7 @@ public class UserAccountService {
 
         userAccount.setPassword(passwordEncoder.encode(newPassword));
         userAccountRepository.save(userAccount);
+        authPrincipalService.invalidate(username);
     }
 
     @Transactional
@@ -56,7 +60,11 @@ public class UserAccountService {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
         // 연관된 데이터 삭제 로직 추가 (게시물, 댓글 등)
+        // 좋아요는 cascade로 함께 삭제되므로 게시물의 like_count를 먼저 차감
+        postRepository.decrementLikeCountsLikedBy(userAccount.getId());
+        releaseFollows(userAccount.getId());
         userAccountRepository.delete(userAccount);
+        authPrincipalService.invalidate(username);
     }
 
     @Transactional(readOnly = true)
@@ -66,9 +74,20 @@ public class UserAccountService {
 
     @Transactional
     public void deleteUser(Long id) {
+        userAccountRepository.findById(id)
+                .ifPresent(userAccount -> authPrincipalService.invalidate(userAccount.getUsername()));
+        postRepository.decrementLikeCountsLikedBy(id);
+        releaseFollows(id);
         userAccountRepository.deleteById(id);
     }
 
+    // 팔로우 관계 정리: 상대방의 팔로워/팔로잉 수를 먼저 차감한 뒤 user_follow 행 삭제
+    private void releaseFollows(Long userId) {
+        userAccountRepository.decrementFollowerCountsFollowedBy(userId);
+        userAccountRepository.decrementFollowingCountsFollowing(userId);
+        userAccountRepository.deleteFollowsOf(userId);
+    }
+
     public UserAccount findByUsername(String name) {
         return userAccountRepository.findByUsername(name).orElseThrow();
     }
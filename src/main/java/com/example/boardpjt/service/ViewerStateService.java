@@ -0,0 +1,70 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.dto.PostDTO;
+import com.example.boardpjt.model.repository.BookmarkRepository;
+import com.example.boardpjt.model.repository.PostLikeRepository;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 로그인 사용자 기준 게시물 상태(좋아요/북마크/작성자 팔로우 여부)를 한 번에 조회
+ *
+ * 사용자 id 를 한 번만 구한 뒤, 게시물 수와 관계없이 id 만 읽는 쿼리 4개로 처리한다.
+ * - 작성자 id, 좋아요한 게시물 id, 북마크한 게시물 id, 팔로우 중인 작성자 id
+ */
+@Service
+@RequiredArgsConstructor
+public class ViewerStateService {
+
+    private final UserAccountRepository userAccountRepository;
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+
+    /**
+     * @return postId -> 상태 (비로그인/없는 사용자면 모두 ANONYMOUS)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, PostDTO.ViewerState> getStates(String username, Collection<Long> postIds) {
+        Map<Long, PostDTO.ViewerState> states = new HashMap<>();
+        Optional<Long> userId = username == null ? Optional.empty() : userAccountRepository.findIdByUsername(username);
+        if (postIds.isEmpty() || userId.isEmpty()) {
+            postIds.forEach(id -> states.put(id, PostDTO.ViewerState.ANONYMOUS));
+            return states;
+        }
+
+        Map<Long, Long> authors = new HashMap<>();
+        for (Object[] row : postRepository.findAuthorIdsByIds(postIds)) {
+            authors.put((Long) row[0], (Long) row[1]);
+        }
+        Set<Long> liked = new HashSet<>(postLikeRepository.findLikedPostIds(userId.get(), postIds));
+        Set<Long> bookmarked = new HashSet<>(bookmarkRepository.findBookmarkedPostIds(userId.get(), postIds));
+        Set<Long> following = authors.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userAccountRepository.findFollowingIdsAmong(userId.get(), new HashSet<>(authors.values())));
+
+        for (Long postId : postIds) {
+            states.put(postId, new PostDTO.ViewerState(
+                    liked.contains(postId),
+                    bookmarked.contains(postId),
+                    following.contains(authors.get(postId))));
+        }
+        return states;
+    }
+
+    @Transactional(readOnly = true)
+    public PostDTO.ViewerState getState(String username, Long postId) {
+        return getStates(username, List.of(postId)).get(postId);
+    }
+}
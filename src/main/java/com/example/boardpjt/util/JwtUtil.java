@@ -2,20 +2,29 @@ package com.example.boardpjt.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT(JSON Web Token) 관련 유틸리티 클래스
  * 토큰 생성, 검증, 파싱 기능을 제공하며 Access Token과 Refresh Token을 모두 지원
  * 설정 파일(application.yml)에서 비밀키와 만료 시간을 주입받아 사용
  */
+@Slf4j
 @Component // Spring 컨테이너가 관리하는 빈으로 등록
 public class JwtUtil {
 
@@ -28,6 +37,15 @@ public class JwtUtil {
     // Refresh Token 만료 시간 (밀리초 단위)
     private final Long refreshExpiry;
 
+    // 서명 검증용 파서 (불변 객체이므로 한 번만 만들어 모든 요청에서 재사용)
+    private final JwtParser parser;
+
+    // board.jwt.verify 타이머 (검증 결과별)
+    private final Map<TokenStatus, Timer> verifyTimers = new EnumMap<>(TokenStatus.class);
+
+    // 요청 단위로 검증 결과(TokenVerification)를 공유하기 위한 request attribute 이름
+    public static final String ACCESS_TOKEN_ATTRIBUTE = JwtUtil.class.getName() + ".ACCESS_TOKEN";
+
     /**
      * JwtUtil 생성자
      * application.yml 설정값을 주입받아 JWT 관련 설정을 초기화
@@ -35,25 +53,35 @@ public class JwtUtil {
      * @param secret JWT 서명용 비밀키 문자열 (application.yml의 jwt.secret 값)
      * @param accessExpiry Access Token 만료 시간 (application.yml의 jwt.expiry.access 값)
      * @param refreshExpiry Refresh Token 만료 시간 (application.yml의 jwt.expiry.refresh 값)
+     * @param meterRegistry 토큰 검증 시간 지표 기록용
      */
     public JwtUtil(
             @Value("${jwt.secret}") String secret,           // 예: "mySecretKey123456789012345678901234567890"
             @Value("${jwt.expiry.access}") Long accessExpiry, // 예: 3600000 (1시간)
-            @Value("${jwt.expiry.refresh}") Long refreshExpiry) { // 예: 604800000 (7일)
+            @Value("${jwt.expiry.refresh}") Long refreshExpiry, // 예: 604800000 (7일)
+            MeterRegistry meterRegistry) {
 
         // === 비밀키 생성 ===
         // 문자열 비밀키를 HMAC-SHA 알고리즘용 SecretKey 객체로 변환
         // UTF-8 인코딩을 사용하여 바이트 배열로 변환 후 SecretKey 생성
         // 주의: 비밀키는 최소 256비트(32바이트) 이상이어야 함
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
 
         this.accessExpiry = accessExpiry;
         this.refreshExpiry = refreshExpiry;
 
-        // === 설정값 확인용 로그 (운영환경에서는 보안상 제거 권장) ===
-        System.out.println("JWT 비밀키 설정 완료: " + secret);
-        System.out.println("Access Token 만료시간: " + accessExpiry + "ms (" + (accessExpiry/1000/60) + "분)");
-        System.out.println("Refresh Token 만료시간: " + refreshExpiry + "ms (" + (refreshExpiry/1000/60/60/24) + "일)");
+        // 검증 결과별 타이머를 미리 등록 (요청마다 조회하지 않음)
+        for (TokenStatus status : TokenStatus.values()) {
+            verifyTimers.put(status, Timer.builder("board.jwt.verify")
+                    .description("JWT 파싱 및 서명 검증 시간")
+                    .tag("result", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        // === 설정값 확인용 로그 (비밀키 값은 출력하지 않음) ===
+        log.info("JWT 설정 완료 - Access Token 만료: {}분, Refresh Token 만료: {}일",
+                accessExpiry / 1000 / 60, refreshExpiry / 1000 / 60 / 60 / 24);
     }
 
     /**
@@ -107,19 +135,76 @@ public class JwtUtil {
      * @throws 토큰이 유효하지 않을 경우 다양한 JWT 예외 발생
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                // 서명 검증용 비밀키 설정
-                .verifyWith(secretKey)
+        // 토큰 파싱 및 서명 검증
+        // 이 과정에서 토큰 형식, 서명, 만료시간 등이 모두 검증됨
+        return parser.parseSignedClaims(token).getPayload();
+    }
 
-                // JWT 파서 빌드
-                .build()
+    /**
+     * 토큰을 한 번만 파싱/검증하여 결과를 반환하는 메서드 (예외를 던지지 않음)
+     * 필터에서는 이 결과를 request attribute 로 공유하여 같은 토큰을 다시 검증하지 않는다.
+     *
+     * @param token 검증할 JWT 토큰 문자열
+     * @return TokenVerification 유효/만료/무효 상태와 클레임 (만료된 경우에도 클레임 포함, 무효면 null)
+     */
+    public TokenVerification verify(String token) {
+        long start = System.nanoTime();
+        TokenVerification verification;
+        try {
+            verification = new TokenVerification(TokenStatus.VALID, getClaims(token));
+        } catch (ExpiredJwtException e) {
+            verification = new TokenVerification(TokenStatus.EXPIRED, e.getClaims());
+        } catch (Exception e) {
+            verification = new TokenVerification(TokenStatus.INVALID, null);
+        }
+        verifyTimers.get(verification.status()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verification;
+    }
 
-                // 토큰 파싱 및 서명 검증
-                // 이 과정에서 토큰 형식, 서명, 만료시간 등이 모두 검증됨
-                .parseSignedClaims(token)
+    /**
+     * 요청 단위로 Access Token 을 한 번만 검증하는 메서드
+     * 같은 요청에서 이미 검증한 결과가 request attribute 에 있으면 재사용한다.
+     * (RefreshJwtFilter 가 먼저 검증하고, JwtFilter 는 그 결과를 그대로 사용)
+     *
+     * @param request 현재 HTTP 요청
+     * @param token   쿠키에서 꺼낸 Access Token
+     * @return TokenVerification 검증 결과
+     */
+    public TokenVerification verifyAccessToken(HttpServletRequest request, String token) {
+        Object cached = request.getAttribute(ACCESS_TOKEN_ATTRIBUTE);
+        if (cached instanceof CachedVerification c && c.token().equals(token)) {
+            return c.verification();
+        }
+        TokenVerification verification = verify(token);
+        request.setAttribute(ACCESS_TOKEN_ATTRIBUTE, new CachedVerification(token, verification));
+        return verification;
+    }
+
+    private record CachedVerification(String token, TokenVerification verification) {
+    }
+
+    public enum TokenStatus { VALID, EXPIRED, INVALID }
+
+    /**
+     * 토큰 검증 결과
+     */
+    public record TokenVerification(TokenStatus status, Claims claims) {
+
+        public boolean isValid() {
+            return status == TokenStatus.VALID;
+        }
+
+        public boolean isExpired() {
+            return status == TokenStatus.EXPIRED;
+        }
+
+        public String username() {
+            return claims.getSubject();
+        }
 
-                // 페이로드(클레임) 데이터 반환
-                .getPayload();
+        public String role() {
+            return claims.get("role", String.class);
+        }
     }
 
     /**
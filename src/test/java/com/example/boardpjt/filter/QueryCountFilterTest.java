@@ -0,0 +1,37 @@
+package com.example.boardpjt.filter;
+
+import com.example.boardpjt.config.QueryCountInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청당 SQL 실행 수 지표(board.http.queries)가 기대한 이름/단위로 기록되는지 SimpleMeterRegistry 로 확인
+ */
+class QueryCountFilterTest {
+
+    @Test
+    void recordsStatementsPerRequest() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        QueryCountFilter filter = new QueryCountFilter(registry);
+        QueryCountInspector inspector = new QueryCountInspector();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/posts"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    inspector.inspect("select 1");
+                    inspector.inspect("select 2");
+                });
+        // actuator/정적 리소스는 세지 않음
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/prometheus"), new MockHttpServletResponse(),
+                (request, response) -> inspector.inspect("select 3"));
+
+        DistributionSummary queries = registry.get("board.http.queries").summary();
+        assertThat(queries.count()).isEqualTo(1);
+        assertThat(queries.totalAmount()).isEqualTo(2);
+        assertThat(queries.getId().getBaseUnit()).isEqualTo("queries");
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.boardpjt.model.dto;
+
+import com.example.boardpjt.model.entity.Post;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    private static Post post(long id, Integer rating, long likeCount) {
+        Post post = new Post();
+        post.setId(id);
+        post.setRating(rating);
+        post.setLikeCount(likeCount);
+        return post;
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void encodedCursorDecodesToSameValue() {
+        PostCursor cursor = new PostCursor("popular", 15L, 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(PostCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void afterUsesSortKeyOfLastPost() {
+        Post last = post(7L, 4, 20L);
+
+        assertThat(PostCursor.after("latest", last)).isEqualTo(new PostCursor("latest", 7L, 7L));
+        assertThat(PostCursor.after("rating", last)).isEqualTo(new PostCursor("rating", 4L, 7L));
+        assertThat(PostCursor.after("popular", last)).isEqualTo(new PostCursor("popular", 20L, 7L));
+        // 별점이 없으면 0 으로 정렬
+        assertThat(PostCursor.after("rating", post(8L, null, 0L))).isEqualTo(new PostCursor("rating", 0L, 8L));
+    }
+
+    @Test
+    void onlyKeysetSortsAreSupported() {
+        assertThat(PostCursor.supports("latest")).isTrue();
+        assertThat(PostCursor.supports("rating")).isTrue();
+        assertThat(PostCursor.supports("popular")).isTrue();
+        // 제목순 등 (정렬 키, id) 로 위치를 표현할 수 없는 정렬은 offset 페이징만 사용
+        assertThat(PostCursor.supports("title")).isFalse();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> PostCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("latest:1"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("title:1:1"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("latest:x:1"))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.dto.CommentDTO;
+import com.example.boardpjt.model.entity.Comment;
+import com.example.boardpjt.model.repository.CommentRepository;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+    private static final long POST_ID = 1L;
+
+    private CommentRepository commentRepository;
+    private CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        commentService = new CommentService(commentRepository, mock(UserAccountRepository.class),
+                mock(PostRepository.class), new SimpleMeterRegistry());
+    }
+
+    private static String path(long... ids) {
+        StringBuilder path = new StringBuilder();
+        for (long id : ids) {
+            path.append(String.format("%012d/", id));
+        }
+        return path.toString();
+    }
+
+    @Test
+    void previewsOfAllThreadsAreLoadedWithOneQuery() {
+        View a = new View(1L, null, 0, 5, path(1));
+        View b = new View(2L, null, 0, 0, path(2));
+        View c = new View(3L, null, 0, 1, path(3));
+        View d = new View(4L, null, 0, 0, path(4));
+        when(commentRepository.findRoots(POST_ID, "", Limit.of(5))).thenReturn(List.of(a, b, c, d));
+        // 답글이 있는 첫 스레드(a)부터 마지막 스레드(c)의 하위 구간 끝까지, 스레드별 2건
+        when(commentRepository.findReplyPreviews(POST_ID, path(1), Comment.subtreeEnd(path(3)), 2))
+                .thenReturn(List.of(new View(11L, 1L, 1, 0, path(1, 11)), new View(12L, 1L, 1, 0, path(1, 12)),
+                        new View(31L, 3L, 1, 0, path(3, 31))));
+
+        CommentDTO.ThreadPage page = commentService.findThreads(POST_ID, null, 4, 2);
+
+        assertThat(page.content()).extracting(CommentDTO.Node::id).containsExactly(1L, 11L, 12L, 2L, 3L, 31L, 4L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(commentRepository).findRoots(POST_ID, "", Limit.of(5));
+        verify(commentRepository).findReplyPreviews(POST_ID, path(1), Comment.subtreeEnd(path(3)), 2);
+        verifyNoMoreInteractions(commentRepository);
+    }
+
+    @Test
+    void noPreviewQueryWhenRepliesIsZeroOrNoThreadHasReplies() {
+        View a = new View(1L, null, 0, 5, path(1));
+        View b = new View(2L, null, 0, 3, path(2));
+        when(commentRepository.findRoots(POST_ID, "", Limit.of(2))).thenReturn(List.of(a, b));
+
+        CommentDTO.ThreadPage page = commentService.findThreads(POST_ID, null, 1, 0);
+
+        assertThat(page.content()).extracting(CommentDTO.Node::id).containsExactly(1L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(1L);
+
+        when(commentRepository.findRoots(POST_ID, "", Limit.of(3)))
+                .thenReturn(List.of(new View(1L, null, 0, 0, path(1)), new View(2L, null, 0, 0, path(2))));
+        commentService.findThreads(POST_ID, null, 2, 2);
+
+        verify(commentRepository, never()).findReplyPreviews(any(), anyString(), anyString(), anyInt());
+    }
+
+    private record View(Long id, Long parentId, int depth, long replyCount, String path)
+            implements CommentDTO.ThreadView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getPostId() {
+            return POST_ID;
+        }
+
+        @Override
+        public String getContent() {
+            return "comment " + id;
+        }
+
+        @Override
+        public String getUsername() {
+            return "user";
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return LocalDateTime.of(2025, 1, 1, 0, 0);
+        }
+
+        @Override
+        public Long getParentId() {
+            return parentId;
+        }
+
+        @Override
+        public int getDepth() {
+            return depth;
+        }
+
+        @Override
+        public long getReplyCount() {
+            return replyCount;
+        }
+
+        @Override
+        public String getPath() {
+            return path;
+        }
+    }
+}
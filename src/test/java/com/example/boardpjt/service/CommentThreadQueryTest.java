@@ -0,0 +1,149 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.config.JpaConfig;
+import com.example.boardpjt.config.QueryCountInspector;
+import com.example.boardpjt.model.dto.CommentDTO;
+import com.example.boardpjt.model.entity.Comment;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.UserAccount;
+import com.example.boardpjt.model.repository.CommentRepository;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * findThreads 가 실제로 실행하는 SQL 개수 - 최상위 댓글 수와 무관하게 페이지당 2개
+ * (H2 MySQL 모드, 별칭 대소문자를 유지하도록 DATABASE_TO_UPPER=FALSE)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-threads;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, CommentThreadQueryTest.PasswordEncoderConfig.class})
+class CommentThreadQueryTest {
+
+    private static final int ROOTS = 30;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private CommentService commentService;
+    private Post post;
+    private UserAccount author;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(commentRepository, userAccountRepository, postRepository,
+                new SimpleMeterRegistry());
+
+        author = new UserAccount();
+        author.setUsername("writer");
+        author.setPassword("password");
+        author.setRole("ROLE_USER");
+        em.persist(author);
+
+        post = new Post();
+        post.setTitle("제목");
+        post.setContent("내용");
+        post.setAuthor(author);
+        em.persist(post);
+    }
+
+    private Comment comment(Comment parent, String content) {
+        Comment comment = new Comment();
+        comment.setContent(content);
+        comment.setAuthor(author);
+        comment.setPost(post);
+        comment.setParent(parent);
+        comment.setDepth(parent == null ? 0 : parent.getDepth() + 1);
+        em.persist(comment);
+        comment.completePath();
+        if (parent != null) {
+            parent.setReplyCount(parent.getReplyCount() + 1);
+        }
+        return comment;
+    }
+
+    @Test
+    void pageOfThreadsRunsTwoQueriesRegardlessOfRootCount() {
+        // 스레드마다 답글 3건 (두 번째는 첫 답글의 답글) -> 스레드 순서: 첫 답글, 답글의 답글, 두 번째 답글
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < ROOTS; i++) {
+            Comment root = comment(null, "root" + i);
+            Comment first = comment(root, "reply" + i + "-1");
+            comment(first, "reply" + i + "-1-1");
+            comment(root, "reply" + i + "-2");
+            expected.add("root" + i);
+            expected.add("reply" + i + "-1");
+            expected.add("reply" + i + "-1-1");
+        }
+        // 답글 없는 스레드가 마지막에 있어도 구간 밖
+        comment(null, "lonely");
+        expected.add("lonely");
+        em.flush();
+        em.clear();
+
+        QueryCountInspector.start();
+        CommentDTO.ThreadPage page = commentService.findThreads(post.getId(), null, ROOTS + 1, 2);
+        int queries = QueryCountInspector.stop();
+
+        assertThat(queries).isEqualTo(2);
+        assertThat(page.content()).extracting(CommentDTO.Node::content).containsExactlyElementsOf(expected);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void busyFirstThreadDoesNotStarveLaterPreviews() {
+        Comment busy = comment(null, "busy");
+        for (int i = 0; i < 20; i++) {
+            comment(busy, "busy-reply" + i);
+        }
+        Comment quiet = comment(null, "quiet");
+        comment(quiet, "quiet-reply");
+        em.flush();
+        em.clear();
+
+        CommentDTO.ThreadPage page = commentService.findThreads(post.getId(), null, 10, 2);
+
+        assertThat(page.content()).extracting(CommentDTO.Node::content)
+                .containsExactly("busy", "busy-reply0", "busy-reply1", "quiet", "quiet-reply");
+        assertThat(page.content().get(0).replyCount()).isEqualTo(20);
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        // BoardpjtApplication.initAdmin 이 요구하는 빈 (SecurityConfig 는 슬라이스 테스트에 포함되지 않음)
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.boardpjt.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FileDiskCache - 로컬 디렉터리를 원본으로 쓰는 FileOrigin 으로 S3 없이 확인
+ */
+class FileDiskCacheTest {
+
+    @TempDir
+    Path originDir;
+
+    @TempDir
+    Path cacheDir;
+
+    private DirectoryOrigin origin;
+    private SimpleMeterRegistry meterRegistry;
+    private FileDiskCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        origin = new DirectoryOrigin(originDir);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = newCache(DataSize.ofBytes(1000), Duration.ofSeconds(5));
+    }
+
+    private FileDiskCache newCache(DataSize maxSize, Duration loadTimeout) throws IOException {
+        FileDiskCache diskCache = new FileDiskCache(origin, meterRegistry);
+        ReflectionTestUtils.setField(diskCache, "enabled", true);
+        ReflectionTestUtils.setField(diskCache, "dir", cacheDir);
+        ReflectionTestUtils.setField(diskCache, "maxSize", maxSize);
+        ReflectionTestUtils.setField(diskCache, "loadTimeout", loadTimeout);
+        diskCache.init();
+        return diskCache;
+    }
+
+    private void write(String key, int size) throws IOException {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (key.hashCode() + i);
+        }
+        Files.write(originDir.resolve(key), content);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("board.file.cache", "result", result).count();
+    }
+
+    @Test
+    void missLoadsFromOriginThenHitServesCachedFile() throws IOException {
+        write("a.jpg", 100);
+
+        try (FileDiskCache.Hit hit = cache.open("a.jpg")) {
+            assertThat(hit.size()).isEqualTo(100);
+            assertThat(hit.contentType()).isEqualTo("image/jpeg");
+            assertThat(Files.readAllBytes(hit.path())).isEqualTo(Files.readAllBytes(originDir.resolve("a.jpg")));
+        }
+        try (FileDiskCache.Hit hit = cache.open("a.jpg")) {
+            assertThat(hit.path()).startsWith(cacheDir);
+        }
+
+        assertThat(origin.downloads("a.jpg")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void missingKeyIsNotCached() {
+        assertThatThrownBy(() -> cache.open("none.jpg")).isInstanceOf(NoSuchFileException.class);
+        assertThatThrownBy(() -> cache.open("none.jpg")).isInstanceOf(NoSuchFileException.class);
+
+        assertThat(origin.downloads("none.jpg")).isEqualTo(2);
+        assertThat(cacheDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    void concurrentMissesShareOneDownload() throws Exception {
+        write("a.jpg", 100);
+        origin.block();
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<Path>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    try (FileDiskCache.Hit hit = cache.open("a.jpg")) {
+                        return hit.path();
+                    }
+                }));
+            }
+            assertThat(origin.started.await(5, TimeUnit.SECONDS)).isTrue();
+            origin.release();
+
+            Path first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Path> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(origin.downloads("a.jpg")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void waiterGivesUpAfterLoadTimeout() throws Exception {
+        cache = newCache(DataSize.ofBytes(1000), Duration.ofMillis(100));
+        write("a.jpg", 100);
+        origin.block();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> loader = executor.submit(() -> {
+                try (FileDiskCache.Hit hit = cache.open("a.jpg")) {
+                    return hit.size();
+                }
+            });
+            assertThat(origin.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> cache.open("a.jpg")).isInstanceOf(FileDiskCache.LoadTimeoutException.class);
+
+            origin.release();
+            loader.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(origin.downloads("a.jpg")).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverMaxSize() throws IOException {
+        cache = newCache(DataSize.ofBytes(250), Duration.ofSeconds(5));
+        write("a.jpg", 100);
+        write("b.jpg", 100);
+        write("c.jpg", 100);
+
+        Path b;
+        cache.open("a.jpg").close();
+        try (FileDiskCache.Hit hit = cache.open("b.jpg")) {
+            b = hit.path();
+        }
+        cache.open("a.jpg").close(); // a 를 최근 사용으로
+        cache.open("c.jpg").close(); // 300 > 250 -> 가장 오래 안 쓴 b 제거
+
+        assertThat(Files.exists(b)).isFalse();
+        cache.open("a.jpg").close();
+        cache.open("b.jpg").close();
+        assertThat(origin.downloads("a.jpg")).isEqualTo(1);
+        assertThat(origin.downloads("b.jpg")).isEqualTo(2);
+    }
+
+    @Test
+    void evictedFileInUseIsDeletedWhenLastReaderCloses() throws IOException {
+        cache = newCache(DataSize.ofBytes(150), Duration.ofSeconds(5));
+        write("a.jpg", 100);
+        write("b.jpg", 100);
+
+        FileDiskCache.Hit pinned = cache.open("a.jpg");
+        FileDiskCache.Hit second = cache.open("a.jpg");
+        cache.open("b.jpg").close(); // a 제거 대상이지만 사용 중
+
+        assertThat(Files.exists(pinned.path())).isTrue();
+        pinned.close();
+        pinned.close(); // 두 번 닫아도 한 번만 반납
+        assertThat(Files.exists(second.path())).isTrue();
+        second.close();
+        assertThat(Files.exists(second.path())).isFalse();
+    }
+
+    @Test
+    void fileLargerThanCacheIsServedOnceAndDeleted() throws IOException {
+        cache = newCache(DataSize.ofBytes(50), Duration.ofSeconds(5));
+        write("big.jpg", 100);
+
+        Path path;
+        try (FileDiskCache.Hit hit = cache.open("big.jpg")) {
+            path = hit.path();
+            assertThat(Files.size(path)).isEqualTo(100);
+        }
+
+        assertThat(Files.exists(path)).isFalse();
+        cache.open("big.jpg").close();
+        assertThat(origin.downloads("big.jpg")).isEqualTo(2);
+    }
+
+    /**
+     * originDir 의 파일을 복사하는 원본 - 키별 다운로드 횟수를 세고, 필요하면 release() 까지 다운로드를 멈춤
+     */
+    private static class DirectoryOrigin implements FileOrigin {
+        private final Path dir;
+        private final Map<String, AtomicInteger> downloads = new ConcurrentHashMap<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        private DirectoryOrigin(Path dir) {
+            this.dir = dir;
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        int downloads(String key) {
+            AtomicInteger count = downloads.get(key);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public Metadata download(String key, Path target) throws IOException {
+            downloads.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            started.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            Path source = dir.resolve(key);
+            if (!Files.exists(source)) {
+                throw new NoSuchFileException(key);
+            }
+            Files.copy(source, target);
+            return new Metadata("image/jpeg", "\"" + key + "\"", Instant.EPOCH);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.boardpjt.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class FullTextSearchSupportTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private FullTextSearchSupport support;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        support = new FullTextSearchSupport(jdbcTemplate);
+        ReflectionTestUtils.setField(support, "enabled", true);
+    }
+
+    private void indexCount(Integer count) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(FullTextSearchSupport.INDEX_NAME)))
+                .thenReturn(count);
+    }
+
+    @Test
+    void booleanOperatorsAreRemovedAndKeywordIsWrappedAsPhrase() {
+        assertThat(support.toBooleanQuery("제주 맛집")).isEqualTo("\"제주 맛집\"");
+        assertThat(support.toBooleanQuery("+제주 -맛집")).isEqualTo("\"제주 맛집\"");
+        assertThat(support.toBooleanQuery("<제주> (맛집)~*")).isEqualTo("\"제주 맛집\"");
+        assertThat(support.toBooleanQuery("\"제주\" @3")).isEqualTo("\"제주 3\"");
+    }
+
+    @Test
+    void whitespaceIsCollapsedAndTrimmed() {
+        assertThat(support.toBooleanQuery("  제주 \t  맛집  ")).isEqualTo("\"제주 맛집\"");
+    }
+
+    @Test
+    void keywordShorterThanMinLengthAfterSanitizingUsesLike() {
+        indexCount(1);
+
+        assertThat(support.isApplicable(null)).isFalse();
+        assertThat(support.isApplicable("")).isFalse();
+        assertThat(support.isApplicable("제")).isFalse();
+        assertThat(support.isApplicable("+제*")).isFalse();
+        assertThat(support.isApplicable("\"\"")).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+
+        assertThat(support.isApplicable("제주")).isTrue();
+    }
+
+    @Test
+    void disabledNeverChecksIndex() {
+        ReflectionTestUtils.setField(support, "enabled", false);
+
+        assertThat(support.isApplicable("제주 맛집")).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void indexCheckRunsOnceAndIsReused() {
+        indexCount(1);
+
+        assertThat(support.isApplicable("제주")).isTrue();
+        assertThat(support.isApplicable("맛집")).isTrue();
+        verify(jdbcTemplate, times(1))
+                .queryForObject(anyString(), eq(Integer.class), eq(FullTextSearchSupport.INDEX_NAME));
+    }
+
+    @Test
+    void missingIndexFallsBackToLike() {
+        indexCount(0);
+
+        assertThat(support.isApplicable("제주")).isFalse();
+    }
+
+    @Test
+    void informationSchemaUnavailableFallsBackToLike() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(FullTextSearchSupport.INDEX_NAME)))
+                .thenThrow(new BadSqlGrammarException("index check", "SELECT ...",
+                        new SQLException("Table \"STATISTICS\" not found")));
+
+        assertThat(support.isApplicable("제주")).isFalse();
+        assertThat(support.isApplicable("맛집")).isFalse();
+        // 실패 결과도 재사용 - 검색마다 다시 확인하지 않음
+        verify(jdbcTemplate, times(1))
+                .queryForObject(anyString(), eq(Integer.class), eq(FullTextSearchSupport.INDEX_NAME));
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.event.PostChangedEvent;
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.PostTagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostSearchIndexTest {
+
+    private PostRepository postRepository;
+    private PostTagRepository postTagRepository;
+    private PostSearchIndex index;
+
+    private final List<Post> posts = new ArrayList<>();
+    private final List<Object[]> authors = new ArrayList<>();
+    private final List<Object[]> tags = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postTagRepository = mock(PostTagRepository.class);
+        index = new PostSearchIndex(postRepository, postTagRepository);
+        ReflectionTestUtils.setField(index, "mode", "index");
+
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(posts);
+        when(postRepository.findAuthorNamesByIds(anyCollection())).thenReturn(authors);
+        when(postTagRepository.findTagNamesByPostIds(anyCollection())).thenReturn(tags);
+    }
+
+    private void post(long id, String title, String content, String category, String author, String... tagNames) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle(title);
+        post.setContent(content);
+        post.setCategory(category);
+        posts.add(post);
+        authors.add(new Object[]{id, author});
+        for (String tag : tagNames) {
+            tags.add(new Object[]{id, tag});
+        }
+    }
+
+    private static PostChangedEvent event(PostChangedEvent.Type type, long id, String title, String content,
+                                          String category, String author, List<String> tags) {
+        return new PostChangedEvent(type, id, title, content, category, author, List.of(), tags);
+    }
+
+    private long[] search(String keyword) {
+        return index.search(keyword, "titleContent", null, null, false);
+    }
+
+    @Test
+    void wordsAreSplitIntoBigramsWithinWordBoundaries() {
+        post(1, "제주도여행 후기", "본문", null, "alice");
+        post(2, "서울,맛집", "본문", null, "bob");
+        index.build();
+
+        assertThat(search("도여")).containsExactly(1L);
+        assertThat(search("주도 여행")).containsExactly(1L);
+        assertThat(search("서울 맛집")).containsExactly(2L);
+        // 단어 경계(공백/기호)를 넘는 bigram 은 만들지 않음
+        assertThat(search("울맛")).isEmpty();
+    }
+
+    @Test
+    void oneLetterKeywordCannotUseIndex() {
+        assertThat(index.canSearch("제")).isFalse();
+        assertThat(index.canSearch("! ? 제 주")).isFalse();
+        assertThat(index.canSearch("제주")).isTrue();
+    }
+
+    @Test
+    void matchingIsCaseInsensitive() {
+        post(1, "Spring Boot", "본문", null, "alice");
+        index.build();
+
+        assertThat(search("spring")).containsExactly(1L);
+        assertThat(search("BOOT")).containsExactly(1L);
+    }
+
+    @Test
+    void everyBigramMustMatchInAnyField() {
+        post(1, "제주 여행", "맛집 정리", null, "alice");
+        post(2, "제주 맛집", "본문", null, "bob");
+        post(3, "여행 준비", "본문", null, "carol", "제주");
+        index.build();
+
+        // 제주 AND 여행 - 제목/내용/태그 어디에 있어도 됨
+        assertThat(search("제주 여행")).containsExactly(3L, 1L);
+        assertThat(search("제주 맛집")).containsExactly(2L, 1L);
+        assertThat(search("제주 없음")).isEmpty();
+    }
+
+    @Test
+    void relevanceRanksTitleAboveContentThenNewestFirst() {
+        post(1, "일기", "오늘은 제주", null, "alice");
+        post(2, "제주 일기", "본문", null, "bob");
+        post(3, "일상", "제주 이야기", null, "carol");
+        index.build();
+
+        assertThat(index.search("제주", "titleContent", null, null, true)).containsExactly(2L, 3L, 1L);
+        assertThat(index.search("제주", "titleContent", null, null, false)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void categoryAndTagFiltersAreExactMatches() {
+        post(1, "제주 여행", "본문", "여행", "alice", "제주도");
+        post(2, "제주 여행", "본문", "여행기", "bob", "제주");
+        index.build();
+
+        assertThat(index.search("제주", "titleContent", "여행", null, false)).containsExactly(1L);
+        assertThat(index.search("제주", "titleContent", null, "제주", false)).containsExactly(2L);
+        assertThat(index.search("제주", "titleContent", "없는분류", null, false)).isEmpty();
+    }
+
+    @Test
+    void authorSearchOnlyLooksAtAuthorName() {
+        post(1, "alice 의 글", "본문", null, "bob");
+        post(2, "다른 글", "본문", null, "alice");
+        index.build();
+
+        assertThat(index.search("alice", "author", null, null, false)).containsExactly(2L);
+    }
+
+    @Test
+    void eventsReplaceAndRemoveDocuments() {
+        post(1, "제주 여행", "본문", null, "alice", "제주");
+        index.build();
+
+        index.onPostChanged(event(PostChangedEvent.Type.UPDATED, 1, "부산 여행", "본문", null, "alice", List.of()));
+        assertThat(search("제주")).isEmpty();
+        assertThat(search("부산")).containsExactly(1L);
+
+        index.onPostChanged(event(PostChangedEvent.Type.DELETED, 1, "부산 여행", "본문", null, "alice", List.of()));
+        assertThat(search("부산")).isEmpty();
+        assertThat(search("여행")).isEmpty();
+    }
+
+    @Test
+    void removeStaleDropsIdsFromEveryPosting() {
+        post(1, "제주 여행", "본문", null, "alice");
+        post(2, "제주 맛집", "본문", null, "bob");
+        index.build();
+
+        index.removeStale(List.of(1L));
+
+        assertThat(search("제주")).containsExactly(2L);
+        assertThat(search("여행")).isEmpty();
+    }
+
+    @Test
+    void changesCommittedDuringBuildAreReplayedAfterIt() {
+        post(1, "제주 여행", "본문", null, "alice");
+        post(2, "서울 맛집", "본문", null, "bob");
+        // 색인이 옛 내용을 읽는 사이 수정/삭제/생성이 커밋됨
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenAnswer(invocation -> {
+            index.onPostChanged(event(PostChangedEvent.Type.DELETED, 1, "제주 여행", "본문", null, "alice", List.of()));
+            index.onPostChanged(event(PostChangedEvent.Type.UPDATED, 2, "부산 맛집", "본문", null, "bob", List.of()));
+            index.onPostChanged(event(PostChangedEvent.Type.CREATED, 3, "제주 맛집", "본문", null, "carol", List.of()));
+            return posts;
+        });
+
+        assertThat(index.isReady()).isFalse();
+        index.build();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(search("여행")).isEmpty();
+        assertThat(search("서울")).isEmpty();
+        assertThat(search("부산 맛집")).containsExactly(2L);
+        assertThat(search("제주")).containsExactly(3L);
+    }
+
+    @Test
+    void failedBuildStopsBufferingAndStaysNotReady() {
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(index::build).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(ReflectionTestUtils.getField(index, "pending")).isNull();
+    }
+}
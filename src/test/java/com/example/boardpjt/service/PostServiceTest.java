@@ -0,0 +1,52 @@
+package com.example.boardpjt.service;
+
+import com.example.boardpjt.model.entity.Post;
+import com.example.boardpjt.model.entity.UserAccount;
+import com.example.boardpjt.model.repository.PostLikeRepository;
+import com.example.boardpjt.model.repository.PostRepository;
+import com.example.boardpjt.model.repository.PostTagRepository;
+import com.example.boardpjt.model.repository.TagRepository;
+import com.example.boardpjt.model.repository.UserAccountRepository;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostServiceTest {
+
+    @Test
+    void toggleLikeIsTimed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PostRepository postRepository = mock(PostRepository.class);
+        UserAccountRepository userAccountRepository = mock(UserAccountRepository.class);
+        PostLikeRepository postLikeRepository = mock(PostLikeRepository.class);
+        PostService postService = new PostService(postRepository, userAccountRepository, postLikeRepository,
+                mock(PostTagRepository.class), mock(TagRepository.class), mock(FullTextSearchSupport.class),
+                mock(PostSearchIndex.class), mock(PopularTagBoard.class), mock(PostDetailCache.class),
+                mock(ApplicationEventPublisher.class), registry);
+
+        Post post = new Post();
+        post.setId(1L);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(userAccountRepository.findByUsername("alice")).thenReturn(Optional.of(new UserAccount()));
+        when(postLikeRepository.findByUserAccountAndPost(any(), any())).thenReturn(Optional.empty());
+        when(postRepository.findLikeCountById(1L)).thenReturn(1L);
+
+        assertThat(postService.toggleLike(1L, "alice")).isEqualTo(1L);
+        // 실패한 요청도 같은 타이머에 기록됨
+        assertThatThrownBy(() -> postService.toggleLike(2L, "alice")).isInstanceOf(IllegalArgumentException.class);
+
+        Timer toggle = registry.get("board.post.like.toggle").timer();
+        assertThat(toggle.count()).isEqualTo(2);
+        assertThat(toggle.getId().getTags()).extracting(Tag::getKey).isEmpty();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.boardpjt.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 검증 지표(board.jwt.verify)가 결과별 태그로 기록되는지 SimpleMeterRegistry 로 확인
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-0123456789-0123456789-0123456789";
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private long verifyCount(String result) {
+        return registry.get("board.jwt.verify").tag("result", result).timer().count();
+    }
+
+    @Test
+    void verifyIsTimedPerResult() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 600_000L, registry);
+        JwtUtil expiredIssuer = new JwtUtil(SECRET, -60_000L, 600_000L, registry);
+
+        jwtUtil.verify(jwtUtil.generateToken("alice", "ROLE_USER", false));
+        jwtUtil.verify(jwtUtil.generateToken("alice", "ROLE_USER", false));
+        jwtUtil.verify(expiredIssuer.generateToken("alice", "ROLE_USER", false));
+        jwtUtil.verify("not-a-jwt");
+
+        assertThat(verifyCount("valid")).isEqualTo(2);
+        assertThat(verifyCount("expired")).isEqualTo(1);
+        assertThat(verifyCount("invalid")).isEqualTo(1);
+        assertThat(registry.get("board.jwt.verify").timers()).hasSize(3);
+    }
+}